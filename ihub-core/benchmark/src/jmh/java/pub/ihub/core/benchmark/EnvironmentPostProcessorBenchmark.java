@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.StandardEnvironment;
+import pub.ihub.cloud.IHubAddCloudConfig;
+import pub.ihub.core.BaseConfigEnvironmentPostProcessor;
+import pub.ihub.core.swagger.IHubAddSwaggerConfig;
+import pub.ihub.secure.core.IHubAddSecureConfig;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 环境配置处理器基准测试
+ * <p>
+ * 模拟启动阶段依次执行全部环境配置处理器，以及处理后的属性查询
+ *
+ * @author henry
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnvironmentPostProcessorBenchmark {
+
+	private final BaseConfigEnvironmentPostProcessor[] processors = {
+		new IHubAddCloudConfig(), new IHubAddSecureConfig(), new IHubAddSwaggerConfig()
+	};
+
+	private ConfigurableEnvironment environment;
+
+	@Setup
+	public void setup() {
+		environment = postProcessEnvironment();
+	}
+
+	@Benchmark
+	public ConfigurableEnvironment postProcessEnvironment() {
+		ConfigurableEnvironment environment = new StandardEnvironment();
+		for (BaseConfigEnvironmentPostProcessor processor : processors) {
+			processor.postProcessEnvironment(environment, null);
+		}
+		return environment;
+	}
+
+	@Benchmark
+	public String getProperty() {
+		return environment.getProperty("ihub-libs.version");
+	}
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core.benchmark;
+
+import cn.hutool.core.map.MapUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pub.ihub.core.BuilderPlan;
+import pub.ihub.core.ObjectBuilder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 对象构建器基准测试（单个对象）
+ *
+ * @author henry
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectBuilderBenchmark {
+
+	private final OrderRow row = OrderRow.of(42L);
+
+	private final OrderDto dto = new OrderDto();
+
+	private final String[] tags = {"ihub", "order", "benchmark"};
+
+	private final List<String> tagList = Arrays.asList(tags);
+
+	private final int[] numbers = {1, 2, 3, 4, 5, 6, 7, 8};
+
+	private final Map<String, Object> attributes = MapUtil.<String, Object>builder("a", 1).put("b", 2).build();
+
+	private final BuilderPlan<OrderDto, OrderRow> plan = BuilderPlan.<OrderDto, OrderRow>of(OrderDto.class)
+		.set(OrderDto::setId, OrderRow::getId)
+		.set(OrderDto::setCode, OrderRow::getCode)
+		.set(OrderDto::setQuantity, OrderRow::getQuantity)
+		.set(OrderDto::setPrice, OrderRow::getPrice)
+		.set(OrderDto::setPaid, OrderRow::isPaid)
+		.set(OrderDto::setLevel, OrderRow::getLevel, Integer::valueOf)
+		.set(OrderDto::setTags, OrderRow::getTags)
+		.set(OrderDto::setCreateTime, OrderRow::getCreateTime)
+		.compile();
+
+	private final OrderMapper mapper = new OrderMapperImpl();
+
+	//<editor-fold desc="获取构建器">
+
+	@Benchmark
+	public OrderDto newInstanceReflection() throws ReflectiveOperationException {
+		return OrderDto.class.getDeclaredConstructor().newInstance();
+	}
+
+	@Benchmark
+	public OrderDto builderClass() {
+		return ObjectBuilder.builder(OrderDto.class).build();
+	}
+
+	@Benchmark
+	public OrderDto builderSupplier() {
+		return ObjectBuilder.builder(OrderDto::new).build();
+	}
+
+	@Benchmark
+	public OrderDto builderObject() {
+		return ObjectBuilder.builder(new OrderDto()).build();
+	}
+
+	@Benchmark
+	public OrderRow builderConstructor() {
+		return ObjectBuilder.builder(OrderRow::of, 42L).build();
+	}
+
+	//</editor-fold>
+
+	//<editor-fold desc="给对象赋值">
+
+	@Benchmark
+	public OrderDto set() {
+		return ObjectBuilder.builder(dto).set(OrderDto::setCode, row.getCode()).build();
+	}
+
+	@Benchmark
+	public OrderDto setConverter() {
+		return ObjectBuilder.builder(dto).set(OrderDto::setLevel, row.getLevel(), Integer::valueOf).build();
+	}
+
+	@Benchmark
+	public OrderDto setConverterRegistry() {
+		return ObjectBuilder.builder(dto).setAs(OrderDto::setLevel, row.getLevel(), Integer.class).build();
+	}
+
+	@Benchmark
+	public OrderDto setCondition() {
+		return ObjectBuilder.builder(dto).set(row.isPaid(), OrderDto::setCode, row.getCode()).build();
+	}
+
+	@Benchmark
+	public OrderDto setPredicate() {
+		return ObjectBuilder.builder(dto).set(Objects::nonNull, OrderDto::setCode, row.getCode()).build();
+	}
+
+	@Benchmark
+	public OrderDto setPredicateConverter() {
+		return ObjectBuilder.builder(dto)
+			.set(Objects::nonNull, OrderDto::setLevel, row.getLevel(), Integer::valueOf).build();
+	}
+
+	@Benchmark
+	public OrderDto setAssert() {
+		return ObjectBuilder.builder(dto).set((String value, String message) -> Objects.requireNonNull(value, message),
+			OrderDto::setCode, row.getCode(), "code is null").build();
+	}
+
+	@Benchmark
+	public OrderDto setError() {
+		return ObjectBuilder.builder(dto).set(Objects::nonNull, OrderDto::setLevel, row.getLevel(), Integer::valueOf,
+			IllegalArgumentException::new).build();
+	}
+
+	@Benchmark
+	public OrderDto setBoxed() {
+		return ObjectBuilder.builder(dto)
+			.set(OrderDto::setQuantity, row.getQuantity())
+			.set(OrderDto::setId, row.getId())
+			.set(OrderDto::setPrice, row.getPrice())
+			.set(OrderDto::setPaid, row.isPaid())
+			.build();
+	}
+
+	@Benchmark
+	public OrderDto setPrimitive() {
+		return ObjectBuilder.builder(dto)
+			.setInt(OrderDto::setQuantity, row.getQuantity())
+			.setLong(OrderDto::setId, row.getId())
+			.setDouble(OrderDto::setPrice, row.getPrice())
+			.setBoolean(OrderDto::setPaid, row.isPaid())
+			.build();
+	}
+
+	@Benchmark
+	public OrderDto identity() {
+		return ObjectBuilder.builder(dto).identity(order -> order).build();
+	}
+
+	@Benchmark
+	public OrderDto setSub() {
+		return ObjectBuilder.builder(dto)
+			.setSub(OrderDto::getCustomer, OrderDto.Customer::setName, row.getCustomerName()).build();
+	}
+
+	@Benchmark
+	public OrderDto setSubConsumer() {
+		return ObjectBuilder.builder(dto)
+			.setSub(OrderDto::getCustomer, customer -> customer.setName(row.getCustomerName())).build();
+	}
+
+	//</editor-fold>
+
+	//<editor-fold desc="集合对象赋值">
+
+	@Benchmark
+	public OrderDto setCollection() {
+		return ObjectBuilder.builder(dto).set(OrderDto::setTags, ArrayList::new, List::add, tags).build();
+	}
+
+	@Benchmark
+	public OrderDto setList() {
+		return ObjectBuilder.builder(dto).setList(OrderDto::setTags, tags).build();
+	}
+
+	@Benchmark
+	public OrderDto addArray() {
+		return ObjectBuilder.builder(new OrderDto()).add(OrderDto::getTags, tags).build();
+	}
+
+	@Benchmark
+	public OrderDto addCollection() {
+		return ObjectBuilder.builder(new OrderDto()).add(OrderDto::getTags, tagList).build();
+	}
+
+	@Benchmark
+	public OrderDto addStream() {
+		return ObjectBuilder.builder(new OrderDto()).add(OrderDto::getTags, Stream.of(tags)).build();
+	}
+
+	@Benchmark
+	public List<Integer> addPrimitiveArray() {
+		return ObjectBuilder.builder(new ArrayList<Integer>()).add(list -> list, numbers).build();
+	}
+
+	@Benchmark
+	public OrderDto put() {
+		return ObjectBuilder.builder(new OrderDto()).put(OrderDto::getAttributes, "code", row.getCode()).build();
+	}
+
+	@Benchmark
+	public OrderDto putAll() {
+		return ObjectBuilder.builder(new OrderDto()).putAll(OrderDto::getAttributes, attributes).build();
+	}
+
+	@Benchmark
+	public OrderDto putAllEntries() {
+		return ObjectBuilder.builder(new OrderDto()).putAll(OrderDto::getAttributes, attributes.entrySet()).build();
+	}
+
+	@Benchmark
+	public OrderDto setMap() {
+		return ObjectBuilder.builder(dto).setMap(OrderDto::setAttributes, attributes.entrySet()).build();
+	}
+
+	//</editor-fold>
+
+	//<editor-fold desc="完整映射">
+
+	@Benchmark
+	public OrderDto chain() {
+		return ObjectBuilder.builder(OrderDto.class)
+			.set(OrderDto::setId, row.getId())
+			.set(OrderDto::setCode, row.getCode())
+			.set(OrderDto::setQuantity, row.getQuantity())
+			.set(OrderDto::setPrice, row.getPrice())
+			.set(OrderDto::setPaid, row.isPaid())
+			.set(OrderDto::setLevel, row.getLevel(), Integer::valueOf)
+			.set(OrderDto::setTags, row.getTags())
+			.set(OrderDto::setCreateTime, row.getCreateTime())
+			.build();
+	}
+
+	@Benchmark
+	public OrderDto plan() {
+		return plan.build(row);
+	}
+
+	@Benchmark
+	public OrderDto generatedMapper() {
+		return mapper.map(row);
+	}
+
+	//</editor-fold>
+
+}
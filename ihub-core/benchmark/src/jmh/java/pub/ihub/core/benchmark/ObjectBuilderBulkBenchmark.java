@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pub.ihub.core.BuilderPlan;
+import pub.ihub.core.ObjectBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对象构建器基准测试（批量对象）
+ *
+ * @author henry
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectBuilderBulkBenchmark {
+
+	@Param({"1000", "100000"})
+	private int size;
+
+	private List<OrderRow> rows;
+
+	private final BuilderPlan<OrderDto, OrderRow> plan = BuilderPlan.<OrderDto, OrderRow>of(OrderDto.class)
+		.set(OrderDto::setId, OrderRow::getId)
+		.set(OrderDto::setCode, OrderRow::getCode)
+		.set(OrderDto::setQuantity, OrderRow::getQuantity)
+		.set(OrderDto::setPrice, OrderRow::getPrice)
+		.set(OrderDto::setPaid, OrderRow::isPaid)
+		.set(OrderDto::setLevel, OrderRow::getLevel, Integer::valueOf)
+		.set(OrderDto::setTags, OrderRow::getTags)
+		.set(OrderDto::setCreateTime, OrderRow::getCreateTime)
+		.compile();
+
+	private final OrderMapper mapper = new OrderMapperImpl();
+
+	@Setup
+	public void setup() {
+		rows = new ArrayList<>(size);
+		for (long i = 0; i < size; i++) {
+			rows.add(OrderRow.of(i));
+		}
+	}
+
+	@Benchmark
+	public List<OrderDto> chain() {
+		List<OrderDto> result = new ArrayList<>(rows.size());
+		for (OrderRow row : rows) {
+			result.add(ObjectBuilder.builder(OrderDto.class)
+				.set(OrderDto::setId, row.getId())
+				.set(OrderDto::setCode, row.getCode())
+				.set(OrderDto::setQuantity, row.getQuantity())
+				.set(OrderDto::setPrice, row.getPrice())
+				.set(OrderDto::setPaid, row.isPaid())
+				.set(OrderDto::setLevel, row.getLevel(), Integer::valueOf)
+				.set(OrderDto::setTags, row.getTags())
+				.set(OrderDto::setCreateTime, row.getCreateTime())
+				.build());
+		}
+		return result;
+	}
+
+	@Benchmark
+	public List<OrderDto> plan() {
+		return plan.buildAll(rows);
+	}
+
+	@Benchmark
+	public List<OrderDto> planParallel() {
+		return ObjectBuilder.buildAll(rows, plan);
+	}
+
+	@Benchmark
+	public List<OrderDto> generatedMapper() {
+		List<OrderDto> result = new ArrayList<>(rows.size());
+		for (OrderRow row : rows) {
+			result.add(mapper.map(row));
+		}
+		return result;
+	}
+
+}
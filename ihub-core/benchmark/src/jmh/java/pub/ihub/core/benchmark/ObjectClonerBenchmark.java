@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core.benchmark;
+
+import cn.hutool.core.util.ObjectUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pub.ihub.core.ObjectBuilder;
+import pub.ihub.core.ObjectCloner;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对象克隆基准测试
+ *
+ * @author henry
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectClonerBenchmark {
+
+	private final OrderDto template = ObjectBuilder.builder(OrderDto.class)
+		.setLong(OrderDto::setId, 42L)
+		.set(OrderDto::setCode, "NO42")
+		.setInt(OrderDto::setQuantity, 3)
+		.add(OrderDto::getTags, "ihub", "order")
+		.put(OrderDto::getAttributes, "channel", "web")
+		.setSub(OrderDto::getCustomer, OrderDto.Customer::setName, "henry")
+		.build();
+
+	/**
+	 * 原实现：非Cloneable对象经由序列化克隆
+	 */
+	@Benchmark
+	public OrderDto serialization() {
+		return ObjectUtil.clone(template);
+	}
+
+	@Benchmark
+	public OrderDto objectCloner() {
+		return ObjectCloner.clone(template);
+	}
+
+	@Benchmark
+	public OrderDto builderClone() {
+		return ObjectBuilder.clone(template).build();
+	}
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core.benchmark;
+
+import pub.ihub.core.IHubMapper;
+import pub.ihub.core.IHubMapping;
+
+/**
+ * 订单映射（编译期生成实现）
+ *
+ * @author henry
+ */
+@IHubMapper
+public interface OrderMapper {
+
+	/**
+	 * 订单行转订单
+	 *
+	 * @param row 订单行
+	 * @return 订单
+	 */
+	@IHubMapping(target = "attributes", ignore = true)
+	OrderDto map(OrderRow row);
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 订单行（原始对象）
+ *
+ * @author henry
+ */
+public class OrderRow {
+
+	private long id;
+	private String code;
+	private int quantity;
+	private double price;
+	private boolean paid;
+	private String level;
+	private String customerName;
+	private List<String> tags;
+	private LocalDateTime createTime;
+
+	public static OrderRow of(long id) {
+		OrderRow row = new OrderRow();
+		row.id = id;
+		row.code = "NO" + id;
+		row.quantity = (int) (id % 100);
+		row.price = id * 1.5D;
+		row.paid = 0 == id % 2;
+		row.level = String.valueOf(id % 5);
+		row.customerName = "customer-" + id % 1000;
+		row.tags = Arrays.asList("ihub", "order");
+		row.createTime = LocalDateTime.of(2021, 1, 1, 0, 0);
+		return row;
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public String getCode() {
+		return code;
+	}
+
+	public int getQuantity() {
+		return quantity;
+	}
+
+	public double getPrice() {
+		return price;
+	}
+
+	public boolean isPaid() {
+		return paid;
+	}
+
+	public String getLevel() {
+		return level;
+	}
+
+	public String getCustomerName() {
+		return customerName;
+	}
+
+	public List<String> getTags() {
+		return tags;
+	}
+
+	public LocalDateTime getCreateTime() {
+		return createTime;
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+import static pub.ihub.core.IHubStartup.LAZY_PROPERTY;
+
+/**
+ * 组件启动耗时基准测试
+ * <p>
+ * 以cloud、swagger、resource组件启动完整Web应用，对比ihub.startup.lazy开启前后的冷启动耗时；
+ * 外部依赖（nacos、sentinel、admin）均关闭，jwk地址仅用于创建解码器，不会访问
+ *
+ * @author henry
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StarterStartupBenchmark {
+
+	@Param({"false", "true"})
+	public boolean lazy;
+
+	private ConfigurableApplicationContext context;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		// bootstrap上下文同样读取
+		System.setProperty("spring.cloud.nacos.discovery.enabled", "false");
+		System.setProperty("spring.cloud.nacos.config.enabled", "false");
+		System.setProperty("spring.cloud.sentinel.enabled", "false");
+		System.setProperty("spring.boot.admin.client.enabled", "false");
+	}
+
+	@Benchmark
+	public ConfigurableApplicationContext startup() {
+		context = new SpringApplicationBuilder(StarterApplication.class)
+			.properties("server.port=0",
+				"spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://localhost/oauth2/jwks",
+				LAZY_PROPERTY + "=" + lazy)
+			.run();
+		return context;
+	}
+
+	@TearDown(Level.Invocation)
+	public void close() {
+		if (null != context) {
+			context.close();
+			context = null;
+		}
+	}
+
+	@Configuration
+	@EnableAutoConfiguration
+	static class StarterApplication {
+	}
+
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.beans.Introspector.decapitalize;
+
+/**
+ * 对象映射注解处理器
+ * <p>
+ * 为{@code @IHubMapper}接口生成实现类，映射方法展开为直接调用getter/setter的顺序代码，不含lambda及反射
+ *
+ * @author henry
+ */
+@SupportedAnnotationTypes(IHubMapperProcessor.MAPPER_ANNOTATION)
+public class IHubMapperProcessor extends AbstractProcessor {
+
+	static final String MAPPER_ANNOTATION = "pub.ihub.core.IHubMapper";
+	private static final String MAPPING_ANNOTATION = "pub.ihub.core.IHubMapping";
+	private static final String MAPPINGS_ANNOTATION = "pub.ihub.core.IHubMapping.List";
+	private static final String CONVERTER = "org.springframework.core.convert.converter.Converter";
+	private static final String VALUE_CONVERTERS = "pub.ihub.core.ValueConverters";
+	private static final String IMPL_SUFFIX = "Impl";
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		TypeElement mapperAnnotation = elements().getTypeElement(MAPPER_ANNOTATION);
+		if (null == mapperAnnotation) {
+			return false;
+		}
+		for (Element element : roundEnv.getElementsAnnotatedWith(mapperAnnotation)) {
+			if (ElementKind.INTERFACE != element.getKind()) {
+				error(element, "@IHubMapper只能用于接口");
+				continue;
+			}
+			try {
+				generate((TypeElement) element);
+			} catch (IOException e) {
+				error(element, "生成映射实现类失败：" + e.getMessage());
+			}
+		}
+		return true;
+	}
+
+	private void generate(TypeElement mapper) throws IOException {
+		String packageName = elements().getPackageOf(mapper).getQualifiedName().toString();
+		String implName = implName(mapper);
+		boolean mapperNonNull = Boolean.TRUE.equals(value(annotation(mapper, MAPPER_ANNOTATION), "nonNull"));
+
+		StringBuilder fields = new StringBuilder();
+		StringBuilder methods = new StringBuilder();
+		int[] counter = {0};
+		for (ExecutableElement method : ElementFilter.methodsIn(elements().getAllMembers(mapper))) {
+			if (!method.getModifiers().contains(Modifier.ABSTRACT)) {
+				continue;
+			}
+			ExecutableType methodType = (ExecutableType) types().asMemberOf((DeclaredType) mapper.asType(), method);
+			if (1 != method.getParameters().size() || TypeKind.DECLARED != methodType.getReturnType().getKind() ||
+				TypeKind.DECLARED != methodType.getParameterTypes().get(0).getKind()) {
+				error(method, "映射方法须为“目标类型 方法名(源类型 参数)”形式");
+				continue;
+			}
+			methods.append(mappingMethod(method, methodType, mapperNonNull, fields, counter));
+		}
+
+		if (!packageName.isEmpty()) {
+			packageName = "package " + packageName + ";\n\n";
+		}
+		String generated = null != elements().getTypeElement("javax.annotation.processing.Generated") ?
+			"@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")\n" : "";
+		try (Writer writer = processingEnv.getFiler().createSourceFile(
+			elements().getPackageOf(mapper).getQualifiedName() + "." + implName, mapper).openWriter()) {
+			writer.write(packageName + generated +
+				"public class " + implName + " implements " + mapper.getQualifiedName() + " {\n\n" +
+				fields + (fields.length() > 0 ? "\n" : "") + methods + "}\n");
+		}
+	}
+
+	private String mappingMethod(ExecutableElement method, ExecutableType methodType, boolean mapperNonNull,
+								 StringBuilder fields, int[] counter) {
+		DeclaredType targetType = (DeclaredType) methodType.getReturnType();
+		DeclaredType sourceType = (DeclaredType) methodType.getParameterTypes().get(0);
+		Map<String, AnnotationMirror> mappings = mappings(method);
+		Map<String, ExecutableElement> getters = getters(sourceType);
+
+		String source = method.getParameters().get(0).getSimpleName().toString();
+		String target = "target".equals(source) ? "result" : "target";
+		StringBuilder body = new StringBuilder()
+			.append("\t@Override\n")
+			.append("\tpublic ").append(targetType).append(' ').append(method.getSimpleName())
+			.append("(").append(sourceType).append(' ').append(source).append(") {\n")
+			.append("\t\tif (null == ").append(source).append(") {\n\t\t\treturn null;\n\t\t}\n")
+			.append("\t\t").append(targetType).append(' ').append(target).append(" = new ").append(targetType)
+			.append("();\n");
+
+		for (Map.Entry<String, ExecutableElement> setter : setters(targetType).entrySet()) {
+			String property = setter.getKey();
+			AnnotationMirror mapping = mappings.remove(property);
+			if (null != mapping && Boolean.TRUE.equals(value(mapping, "ignore"))) {
+				continue;
+			}
+			String sourceProperty = null == mapping ? "" : (String) value(mapping, "source");
+			ExecutableElement getter = getters.get(sourceProperty.isEmpty() ? property : sourceProperty);
+			if (null == getter) {
+				if (null != mapping) {
+					error(method, "源类型" + sourceType + "不存在属性：" + sourceProperty);
+				}
+				continue;
+			}
+			TypeMirror valueType = ((ExecutableType) types().asMemberOf(sourceType, getter)).getReturnType();
+			TypeMirror propertyType =
+				((ExecutableType) types().asMemberOf(targetType, setter.getValue())).getParameterTypes().get(0);
+			boolean nonNull = !valueType.getKind().isPrimitive() &&
+				(mapperNonNull || null != mapping && Boolean.TRUE.equals(value(mapping, "nonNull")));
+
+			// 转换器不接受null：源属性为null时不经转换，与ObjectBuilder一致赋值null，目标为基本类型时不赋值
+			boolean converting = null != customConverter(mapping) || !types().isAssignable(valueType, propertyType);
+			boolean nullable = !valueType.getKind().isPrimitive() && (nonNull || converting);
+			boolean skipNull = nonNull || nullable && propertyType.getKind().isPrimitive();
+
+			String value = source + "." + getter.getSimpleName() + "()";
+			if (nullable) {
+				String variable = "v" + counter[0]++;
+				body.append("\t\t").append(valueType).append(' ').append(variable).append(" = ").append(value)
+					.append(";\n");
+				value = variable;
+			}
+			if (skipNull) {
+				body.append("\t\tif (null != ").append(value).append(") {\n\t");
+			}
+			String converted = convert(value, valueType, propertyType, mapping, fields, counter);
+			if (null == converted) {
+				error(method, "属性" + property + "类型不兼容：" + valueType + " -> " + propertyType);
+				converted = value;
+			} else if (nullable && !skipNull) {
+				converted = "null == " + value + " ? null : " + converted;
+			}
+			body.append("\t\t").append(target).append('.').append(setter.getValue().getSimpleName())
+				.append('(').append(converted).append(");\n");
+			if (skipNull) {
+				body.append("\t\t}\n");
+			}
+		}
+		mappings.keySet().forEach(property -> error(method, "目标类型" + targetType + "不存在属性：" + property));
+		return body.append("\t\treturn ").append(target).append(";\n\t}\n\n").toString();
+	}
+
+	private String convert(String value, TypeMirror valueType, TypeMirror propertyType, AnnotationMirror mapping,
+						   StringBuilder fields, int[] counter) {
+		TypeMirror converter = customConverter(mapping);
+		if (null != converter) {
+			String field = "CONVERTER_" + counter[0]++;
+			fields.append("\tprivate static final ").append(converter).append(' ').append(field)
+				.append(" = new ").append(converter).append("();\n");
+			return "(" + propertyType + ") " + field + ".convert(" + value + ")";
+		}
+		if (types().isAssignable(valueType, propertyType)) {
+			return value;
+		}
+		TypeMirror from = types().erasure(boxed(valueType));
+		TypeMirror to = types().erasure(boxed(propertyType));
+		if (TypeKind.DECLARED != from.getKind() || TypeKind.DECLARED != to.getKind()) {
+			return null;
+		}
+		String field = "CONVERTER_" + counter[0]++;
+		fields.append("\tprivate static final ").append(CONVERTER).append('<').append(from).append(", ").append(to)
+			.append("> ").append(field).append(" = ").append(VALUE_CONVERTERS).append(".getConverter(")
+			.append(from).append(".class, ").append(to).append(".class);\n");
+		return field + ".convert(" + value + ")";
+	}
+
+	/**
+	 * 映射指定的自定义转换器，未指定时返回null
+	 */
+	private TypeMirror customConverter(AnnotationMirror mapping) {
+		Object converter = null == mapping ? null : value(mapping, "converter");
+		return converter instanceof TypeMirror &&
+			!CONVERTER.equals(types().erasure((TypeMirror) converter).toString()) ? (TypeMirror) converter : null;
+	}
+
+	//<editor-fold desc="属性解析">
+
+	private Map<String, ExecutableElement> setters(DeclaredType type) {
+		Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+		for (ExecutableElement method : accessors(type)) {
+			String name = method.getSimpleName().toString();
+			if (name.length() > 3 && name.startsWith("set") && 1 == method.getParameters().size()) {
+				setters.putIfAbsent(decapitalize(name.substring(3)), method);
+			}
+		}
+		return setters;
+	}
+
+	private Map<String, ExecutableElement> getters(DeclaredType type) {
+		Map<String, ExecutableElement> getters = new LinkedHashMap<>();
+		for (ExecutableElement method : accessors(type)) {
+			String name = method.getSimpleName().toString();
+			if (!method.getParameters().isEmpty() || TypeKind.VOID == method.getReturnType().getKind() ||
+				"getClass".equals(name)) {
+				continue;
+			}
+			if (name.length() > 3 && name.startsWith("get")) {
+				getters.putIfAbsent(decapitalize(name.substring(3)), method);
+			} else if (name.length() > 2 && name.startsWith("is") &&
+				TypeKind.BOOLEAN == method.getReturnType().getKind()) {
+				getters.putIfAbsent(decapitalize(name.substring(2)), method);
+			}
+		}
+		return getters;
+	}
+
+	private List<ExecutableElement> accessors(DeclaredType type) {
+		List<ExecutableElement> accessors = new ArrayList<>();
+		for (ExecutableElement method : ElementFilter.methodsIn(elements().getAllMembers(
+			(TypeElement) type.asElement()))) {
+			Set<Modifier> modifiers = method.getModifiers();
+			if (modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC)) {
+				accessors.add(method);
+			}
+		}
+		return accessors;
+	}
+
+	private Map<String, AnnotationMirror> mappings(ExecutableElement method) {
+		Map<String, AnnotationMirror> mappings = new LinkedHashMap<>();
+		for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+			String name = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+			if (MAPPING_ANNOTATION.equals(name)) {
+				mappings.put((String) value(annotation, "target"), annotation);
+			} else if (MAPPINGS_ANNOTATION.equals(name)) {
+				for (Object mapping : (List<?>) value(annotation, "value")) {
+					AnnotationMirror mirror = (AnnotationMirror) ((AnnotationValue) mapping).getValue();
+					mappings.put((String) value(mirror, "target"), mirror);
+				}
+			}
+		}
+		return mappings;
+	}
+
+	//</editor-fold>
+
+	private AnnotationMirror annotation(Element element, String annotationType) {
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+				.contentEquals(annotationType)) {
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+	private Object value(AnnotationMirror annotation, String name) {
+		if (null == annotation) {
+			return null;
+		}
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+			elements().getElementValuesWithDefaults(annotation).entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(name)) {
+				return entry.getValue().getValue();
+			}
+		}
+		return null;
+	}
+
+	private TypeMirror boxed(TypeMirror type) {
+		return type.getKind().isPrimitive() ? types().boxedClass(types().getPrimitiveType(type.getKind())).asType() :
+			type;
+	}
+
+	private static String implName(TypeElement mapper) {
+		StringBuilder name = new StringBuilder(mapper.getSimpleName());
+		for (Element enclosing = mapper.getEnclosingElement(); enclosing instanceof TypeElement;
+			 enclosing = enclosing.getEnclosingElement()) {
+			name.insert(0, enclosing.getSimpleName() + "_");
+		}
+		return name.append(IMPL_SUFFIX).toString();
+	}
+
+	private Elements elements() {
+		return processingEnv.getElementUtils();
+	}
+
+	private Types types() {
+		return processingEnv.getTypeUtils();
+	}
+
+	private void error(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+}
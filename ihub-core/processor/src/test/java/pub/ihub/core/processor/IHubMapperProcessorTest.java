@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core.processor;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 对象映射注解处理器测试：编译示例映射接口，校验生成的映射实现与ObjectBuilder语义一致（源属性为null时不经转换）
+ *
+ * @author henry
+ */
+class IHubMapperProcessorTest {
+
+	private static final String PACKAGE = "pub.ihub.core.processor.sample";
+
+	private static final String SOURCE = "package " + PACKAGE + ";\n" +
+		"public class Source {\n" +
+		"\tprivate String level;\n\tprivate String code;\n\tprivate String count;\n\tprivate String name;\n" +
+		"\tpublic String getLevel() { return level; }\n" +
+		"\tpublic void setLevel(String level) { this.level = level; }\n" +
+		"\tpublic String getCode() { return code; }\n" +
+		"\tpublic void setCode(String code) { this.code = code; }\n" +
+		"\tpublic String getCount() { return count; }\n" +
+		"\tpublic void setCount(String count) { this.count = count; }\n" +
+		"\tpublic String getName() { return name; }\n" +
+		"\tpublic void setName(String name) { this.name = name; }\n" +
+		"}\n";
+
+	private static final String TARGET = "package " + PACKAGE + ";\n" +
+		"public class Target {\n" +
+		"\tprivate Integer level = -1;\n\tprivate String code = \"default\";\n\tprivate int count = -1;\n" +
+		"\tprivate String name = \"default\";\n" +
+		"\tpublic Integer getLevel() { return level; }\n" +
+		"\tpublic void setLevel(Integer level) { this.level = level; }\n" +
+		"\tpublic String getCode() { return code; }\n" +
+		"\tpublic void setCode(String code) { this.code = code; }\n" +
+		"\tpublic int getCount() { return count; }\n" +
+		"\tpublic void setCount(int count) { this.count = count; }\n" +
+		"\tpublic String getName() { return name; }\n" +
+		"\tpublic void setName(String name) { this.name = name; }\n" +
+		"}\n";
+
+	private static final String UPPER_CASE = "package " + PACKAGE + ";\n" +
+		"public class UpperCase implements org.springframework.core.convert.converter.Converter<String, String> {\n" +
+		"\t@Override\n" +
+		"\tpublic String convert(String value) { return value.toUpperCase(); }\n" +
+		"}\n";
+
+	private static final String MAPPER = "package " + PACKAGE + ";\n" +
+		"@pub.ihub.core.IHubMapper\n" +
+		"public interface SampleMapper {\n" +
+		"\t@pub.ihub.core.IHubMapping(target = \"code\", converter = UpperCase.class)\n" +
+		"\tTarget map(Source source);\n" +
+		"}\n";
+
+	private static Path output;
+
+	private static String generated;
+
+	private static Object mapper;
+
+	@BeforeAll
+	static void compile() throws Exception {
+		output = Files.createTempDirectory("ihub-mapper");
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+			StandardCharsets.UTF_8)) {
+			fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(output.toFile()));
+			fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(output.toFile()));
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+				Arrays.asList("-classpath", System.getProperty("java.class.path")), null,
+				Arrays.asList(source("Source", SOURCE), source("Target", TARGET), source("UpperCase", UPPER_CASE),
+					source("SampleMapper", MAPPER)));
+			task.setProcessors(Collections.singletonList(new IHubMapperProcessor()));
+			assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+		}
+		generated = new String(Files.readAllBytes(output.resolve(PACKAGE.replace('.', File.separatorChar))
+			.resolve("SampleMapperImpl.java")), StandardCharsets.UTF_8);
+		pub.ihub.core.ValueConverters.register(String.class, Integer.class, Integer::valueOf);
+		URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()},
+			IHubMapperProcessorTest.class.getClassLoader());
+		mapper = classLoader.loadClass(PACKAGE + ".SampleMapperImpl").getDeclaredConstructor().newInstance();
+	}
+
+	@Test
+	void convertValues() throws Exception {
+		Object target = map("7", "ab", "3", "name");
+		assertEquals(7, get(target, "getLevel"));
+		assertEquals("AB", get(target, "getCode"));
+		assertEquals(3, get(target, "getCount"));
+		assertEquals("name", get(target, "getName"));
+	}
+
+	@Test
+	void nullSourcePropertySkipsConversion() throws Exception {
+		Object target = map(null, null, null, null);
+		assertNull(get(target, "getLevel"));
+		assertNull(get(target, "getCode"));
+		assertNull(get(target, "getName"));
+	}
+
+	@Test
+	void nullSourcePropertyKeepsPrimitiveTarget() throws Exception {
+		assertEquals(-1, get(map("1", "a", null, "n"), "getCount"));
+	}
+
+	@Test
+	void nullSourceReturnsNull() throws Exception {
+		assertNull(mapper.getClass().getMethod("map", mapper.getClass().getClassLoader()
+			.loadClass(PACKAGE + ".Source")).invoke(mapper, (Object) null));
+	}
+
+	@Test
+	void generatedCodeGuardsConverters() {
+		assertTrue(generated.contains("? null : CONVERTER_"), generated);
+		assertTrue(generated.contains("? null : (java.lang.String) CONVERTER_"), generated);
+	}
+
+	private static Object map(String level, String code, String count, String name) throws Exception {
+		ClassLoader classLoader = mapper.getClass().getClassLoader();
+		Class<?> sourceType = classLoader.loadClass(PACKAGE + ".Source");
+		Object source = sourceType.getDeclaredConstructor().newInstance();
+		List<String> values = Arrays.asList(level, code, count, name);
+		List<String> setters = Arrays.asList("setLevel", "setCode", "setCount", "setName");
+		for (int i = 0; i < setters.size(); i++) {
+			sourceType.getMethod(setters.get(i), String.class).invoke(source, values.get(i));
+		}
+		return mapper.getClass().getMethod("map", sourceType).invoke(mapper, source);
+	}
+
+	private static Object get(Object bean, String getter) throws Exception {
+		return bean.getClass().getMethod(getter).invoke(bean);
+	}
+
+	private static JavaFileObject source(String name, String content) {
+		return new SimpleJavaFileObject(URI.create("string:///" + PACKAGE.replace('.', '/') + "/" + name +
+			JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+			@Override
+			public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+				return content;
+			}
+		};
+	}
+
+}
@@ -20,7 +20,8 @@ import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcesso
 import org.springframework.boot.env.EnvironmentPostProcessor;
 import org.springframework.core.Ordered;
 import org.springframework.core.env.ConfigurableEnvironment;
-import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.metrics.StartupStep;
 
 import java.util.Map;
 
@@ -36,19 +37,30 @@ public abstract class BaseConfigEnvironmentPostProcessor implements EnvironmentP
 	 */
 	public static final int ORDER = ConfigDataEnvironmentPostProcessor.ORDER - 5;
 	/**
-	 * 自定义属性源名称
+	 * 自定义属性源名称（前缀）
 	 */
 	public static final String CUSTOMIZE_PROPERTY_SOURCE_NAME = "customize";
 
 	@Override
 	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
 		String profile = getActiveProfile();
-		if (null != profile) {
-			environment.addActiveProfile(profile);
-		}
-		Map<String, Object> properties = getCustomizeProperties();
-		if (null != properties) {
-			environment.getPropertySources().addLast(new MapPropertySource(CUSTOMIZE_PROPERTY_SOURCE_NAME, properties));
+		StartupStep step = IHubStartup.start(application, "environment.post-process")
+			.tag("processor", getClass().getName());
+		try {
+			if (null != profile) {
+				step.tag("profile", profile);
+				environment.addActiveProfile(profile);
+			}
+			MutablePropertySources propertySources = environment.getPropertySources();
+			String name = getPropertySourceName();
+			if (!propertySources.contains(name)) {
+				Map<String, Object> properties = getCustomizeProperties();
+				if (null != properties) {
+					propertySources.addLast(new IndexedPropertySource(name, properties));
+				}
+			}
+		} finally {
+			step.end();
 		}
 	}
 
@@ -67,7 +79,16 @@ public abstract class BaseConfigEnvironmentPostProcessor implements EnvironmentP
 	}
 
 	/**
-	 * 获取自定义属性
+	 * 自定义属性源名称，各模块互不冲突
+	 *
+	 * @return 属性源名称
+	 */
+	protected String getPropertySourceName() {
+		return CUSTOMIZE_PROPERTY_SOURCE_NAME + "-" + getClass().getSimpleName();
+	}
+
+	/**
+	 * 获取自定义属性（环境中已存在同名属性源时不再调用）
 	 *
 	 * @return 自定义属性
 	 */
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对象构建异常日志
+ * <p>
+ * 日志由单个守护线程异步输出，队列满时丢弃，避免异常洪峰阻塞业务线程
+ *
+ * @author henry
+ */
+final class BuildErrorLogger {
+
+	private static final Log LOG = LogFactory.getLog(ObjectBuilder.class);
+
+	private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+		new ArrayBlockingQueue<>(1024), runnable -> {
+		Thread thread = new Thread(runnable, "ihub-object-builder-error-logger");
+		thread.setDaemon(true);
+		return thread;
+	}, new ThreadPoolExecutor.DiscardPolicy());
+
+	private BuildErrorLogger() {
+	}
+
+	/**
+	 * 调试级别输出，未开启调试日志时不产生任何分配
+	 *
+	 * @param type     对象类型
+	 * @param property 属性名，未指定时为带转换赋值序号
+	 * @param cause    转换异常
+	 */
+	static void debug(Class<?> type, Object property, Exception cause) {
+		if (LOG.isDebugEnabled()) {
+			EXECUTOR.execute(() -> LOG.debug("对象赋值失败：" +
+				ConversionFailures.describe(type.getName(), property), cause));
+		}
+	}
+
+	static void log(Class<?> type, Object property, Exception cause) {
+		EXECUTOR.execute(() -> {
+			String description = ConversionFailures.describe(type.getName(), property);
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("对象赋值失败：" + description, cause);
+			} else {
+				LOG.warn("对象赋值失败：" + description + "，" + cause);
+			}
+		});
+	}
+
+}
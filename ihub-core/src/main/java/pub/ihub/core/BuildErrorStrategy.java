@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+/**
+ * 对象构建异常处理策略
+ *
+ * @author henry
+ */
+public enum BuildErrorStrategy {
+
+	/**
+	 * 快速失败，原样抛出调用方提供的异常，转换异常输出到调试日志
+	 */
+	FAIL_FAST,
+	/**
+	 * 收集全部异常（含对应的转换异常），构建对象时统一抛出
+	 */
+	COLLECT,
+	/**
+	 * 异步记录日志后跳过该赋值
+	 */
+	LOG
+
+}
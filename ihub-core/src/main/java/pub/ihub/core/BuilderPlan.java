@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import org.springframework.core.convert.converter.Converter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 对象构建计划
+ * <p>
+ * 一次性记录赋值步骤，之后按原始对象重复构建目标对象，构建过程中不再创建构建器及赋值lambda。
+ * 记录中的计划非线程安全；调用{@link #compile()}得到不可变计划后可在多线程间复用
+ *
+ * @param <T> 对象类型
+ * @param <S> 原始对象类型
+ * @author henry
+ */
+public final class BuilderPlan<T, S> {
+
+	private final Supplier<T> supplier;
+
+	private final List<BiConsumer<T, S>> steps;
+
+	/**
+	 * 编译后的步骤，未编译时为null
+	 */
+	private final BiConsumer<T, S>[] compiledSteps;
+
+	private BuilderPlan(Supplier<T> supplier) {
+		this.supplier = supplier;
+		this.steps = new ArrayList<>();
+		this.compiledSteps = null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private BuilderPlan(Supplier<T> supplier, List<BiConsumer<T, S>> steps) {
+		this.supplier = supplier;
+		this.steps = null;
+		this.compiledSteps = steps.toArray(new BiConsumer[0]);
+	}
+
+	/**
+	 * 获取对象构建计划
+	 *
+	 * @param supplier 生成对象方法
+	 * @param <T>      对象类型
+	 * @param <S>      原始对象类型
+	 * @return 对象构建计划
+	 */
+	public static <T, S> BuilderPlan<T, S> of(Supplier<T> supplier) {
+		return new BuilderPlan<>(supplier);
+	}
+
+	/**
+	 * 获取对象构建计划
+	 *
+	 * @param clazz 构建对象类
+	 * @param <T>   对象类型
+	 * @param <S>   原始对象类型
+	 * @return 对象构建计划
+	 */
+	public static <T, S> BuilderPlan<T, S> of(Class<T> clazz) {
+		return new BuilderPlan<>(ObjectInstantiator.factory(clazz));
+	}
+
+	//<editor-fold desc="记录赋值步骤">
+
+	/**
+	 * 给对象赋值
+	 *
+	 * @param setter 赋值方法
+	 * @param getter 取值方法
+	 * @param <V>    值类型
+	 * @return 对象构建计划
+	 */
+	public <V> BuilderPlan<T, S> set(BiConsumer<T, V> setter, Function<S, V> getter) {
+		return step((target, source) -> setter.accept(target, getter.apply(source)));
+	}
+
+	/**
+	 * 给对象赋值（带值转换器）
+	 *
+	 * @param setter         赋值方法
+	 * @param getter         取值方法
+	 * @param valueConverter 值转换器
+	 * @param <O>            原始值类型
+	 * @param <V>            转换值类型
+	 * @return 对象构建计划
+	 */
+	public <O, V> BuilderPlan<T, S> set(BiConsumer<T, V> setter, Function<S, O> getter,
+										Converter<O, V> valueConverter) {
+		return step((target, source) -> setter.accept(target, valueConverter.convert(getter.apply(source))));
+	}
+
+	/**
+	 * 给对象赋值（内部条件）
+	 *
+	 * @param predicate 判断条件
+	 * @param setter    赋值方法
+	 * @param getter    取值方法
+	 * @param <V>       值类型
+	 * @return 对象构建计划
+	 */
+	public <V> BuilderPlan<T, S> set(Predicate<V> predicate, BiConsumer<T, V> setter, Function<S, V> getter) {
+		return step((target, source) -> {
+			V value = getter.apply(source);
+			if (predicate.test(value)) {
+				setter.accept(target, value);
+			}
+		});
+	}
+
+	/**
+	 * 给子对象赋值
+	 *
+	 * @param getter      获取属性方法
+	 * @param setter      赋值方法
+	 * @param valueGetter 取值方法
+	 * @param <P>         属性类型
+	 * @param <V>         值类型
+	 * @return 对象构建计划
+	 */
+	public <P, V> BuilderPlan<T, S> setSub(Function<T, P> getter, BiConsumer<P, V> setter,
+										   Function<S, V> valueGetter) {
+		return step((target, source) -> setter.accept(getter.apply(target), valueGetter.apply(source)));
+	}
+
+	/**
+	 * 集合对象添加值
+	 *
+	 * @param getter      原始集合
+	 * @param valueGetter 取值方法
+	 * @param <C>         集合类型
+	 * @param <V>         值类型
+	 * @return 对象构建计划
+	 */
+	public <C extends Collection<V>, V> BuilderPlan<T, S> add(Function<T, C> getter, Function<S, V> valueGetter) {
+		return step((target, source) -> getter.apply(target).add(valueGetter.apply(source)));
+	}
+
+	/**
+	 * 集合对象添加值
+	 *
+	 * @param getter      原始集合
+	 * @param keyGetter   取键方法
+	 * @param valueGetter 取值方法
+	 * @param <K>         键值类型
+	 * @param <V>         值类型
+	 * @return 对象构建计划
+	 */
+	public <K, V> BuilderPlan<T, S> put(Function<T, Map<K, V>> getter, Function<S, K> keyGetter,
+										Function<S, V> valueGetter) {
+		return step((target, source) -> getter.apply(target).put(keyGetter.apply(source), valueGetter.apply(source)));
+	}
+
+	/**
+	 * 自定义步骤
+	 *
+	 * @param step 步骤
+	 * @return 对象构建计划
+	 */
+	public BuilderPlan<T, S> step(BiConsumer<T, S> step) {
+		if (isCompiled()) {
+			throw new IllegalStateException("构建计划已编译，不能再添加步骤");
+		}
+		steps.add(step);
+		return this;
+	}
+
+	/**
+	 * 编译构建计划，步骤复制到不可变数组，返回的计划可安全发布并在多线程间复用
+	 *
+	 * @return 不可变的对象构建计划
+	 */
+	public BuilderPlan<T, S> compile() {
+		return isCompiled() ? this : new BuilderPlan<>(supplier, steps);
+	}
+
+	/**
+	 * 是否已编译
+	 *
+	 * @return 是否已编译
+	 */
+	public boolean isCompiled() {
+		return null == steps;
+	}
+
+	//</editor-fold>
+
+	//<editor-fold desc="执行构建计划">
+
+	/**
+	 * 按计划给对象赋值
+	 *
+	 * @param target 目标对象
+	 * @param source 原始对象
+	 * @return 目标对象
+	 */
+	public T apply(T target, S source) {
+		BiConsumer<T, S>[] compiled = compiledSteps;
+		if (null != compiled) {
+			for (BiConsumer<T, S> step : compiled) {
+				step.accept(target, source);
+			}
+		} else {
+			for (int i = 0, size = steps.size(); i < size; i++) {
+				steps.get(i).accept(target, source);
+			}
+		}
+		return target;
+	}
+
+	/**
+	 * 按计划构建对象
+	 *
+	 * @param source 原始对象
+	 * @return 对象
+	 */
+	public T build(S source) {
+		return apply(supplier.get(), source);
+	}
+
+	/**
+	 * 批量构建对象
+	 *
+	 * @param sources 原始对象集合
+	 * @return 对象列表
+	 */
+	public List<T> buildAll(Iterable<S> sources) {
+		List<T> result = sources instanceof Collection ? new ArrayList<>(((Collection<S>) sources).size()) :
+			new ArrayList<>();
+		for (S source : sources) {
+			result.add(build(source));
+		}
+		return result;
+	}
+
+	/**
+	 * 批量构建对象
+	 *
+	 * @param sources 原始对象流
+	 * @return 对象列表
+	 */
+	public List<T> buildAll(Stream<S> sources) {
+		return sources.map(this::build).collect(toList());
+	}
+
+	//</editor-fold>
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 转换失败计数
+ * <p>
+ * 计数器以类名登记，不持有类引用，按类缓存查找；属性以属性名或带转换赋值序号为键，
+ * 计数过程不拼接字符串，预创建异常的快速失败路径不产生分配
+ *
+ * @author henry
+ */
+final class ConversionFailures {
+
+	private static final Map<String, Map<Object, LongAdder>> COUNTERS = new ConcurrentHashMap<>();
+
+	private static final ClassValue<Map<Object, LongAdder>> TYPE_COUNTERS = new ClassValue<Map<Object, LongAdder>>() {
+		@Override
+		protected Map<Object, LongAdder> computeValue(Class<?> type) {
+			return COUNTERS.computeIfAbsent(type.getName(), name -> new ConcurrentHashMap<>(4));
+		}
+	};
+
+	private ConversionFailures() {
+	}
+
+	/**
+	 * 记录一次转换失败
+	 *
+	 * @param type     对象类型
+	 * @param property 属性名，未指定时为带转换赋值序号
+	 */
+	static void increment(Class<?> type, Object property) {
+		TYPE_COUNTERS.get(type).computeIfAbsent(property, key -> new LongAdder()).increment();
+	}
+
+	/**
+	 * 属性描述
+	 *
+	 * @param typeName 类名
+	 * @param property 属性名，未指定时为带转换赋值序号
+	 * @return “类名.属性名”，未指定属性名时为“类名#带转换赋值序号”
+	 */
+	static String describe(String typeName, Object property) {
+		return typeName + (property instanceof Integer ? "#" : ".") + property;
+	}
+
+	/**
+	 * 获取各属性的失败次数
+	 *
+	 * @return 属性描述与失败次数
+	 */
+	static Map<String, Long> snapshot() {
+		Map<String, Long> failures = new HashMap<>(16);
+		COUNTERS.forEach((typeName, counters) -> counters.forEach((property, count) ->
+			failures.put(describe(typeName, property), count.sum())));
+		return failures;
+	}
+
+}
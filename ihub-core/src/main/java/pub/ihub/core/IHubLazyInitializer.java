@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.MethodMetadata;
+
+import static pub.ihub.core.Constant.BASE_PACKAGES;
+import static pub.ihub.core.IHubStartup.LAZY_PROPERTY;
+
+/**
+ * IHub延迟初始化
+ * <p>
+ * ihub.startup.lazy=true时，将IHub组件注册的Bean（组件类或{@code @Bean}方法声明在IHub包下）标记为延迟初始化；
+ * 仅处理已注册的Bean定义，不做运行时类路径扫描，显式声明{@code @Lazy(false)}的Bean不受影响
+ *
+ * @author henry
+ */
+public class IHubLazyInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+	private static final String PACKAGE_PREFIX = BASE_PACKAGES + ".";
+
+	@Override
+	public void initialize(ConfigurableApplicationContext context) {
+		if (context.getEnvironment().getProperty(LAZY_PROPERTY, Boolean.class, false)) {
+			context.addBeanFactoryPostProcessor(IHubLazyInitializer::postProcessBeanFactory);
+		}
+	}
+
+	private static void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+		for (String beanName : beanFactory.getBeanDefinitionNames()) {
+			BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+			if (definition instanceof AbstractBeanDefinition &&
+				null == ((AbstractBeanDefinition) definition).getLazyInit() &&
+				BeanDefinition.ROLE_APPLICATION == definition.getRole() && isIHubBean(definition)) {
+				definition.setLazyInit(true);
+			}
+		}
+	}
+
+	private static boolean isIHubBean(BeanDefinition definition) {
+		String beanClassName = definition.getBeanClassName();
+		if (null != beanClassName && beanClassName.startsWith(PACKAGE_PREFIX)) {
+			return true;
+		}
+		MethodMetadata factoryMethod = definition instanceof AnnotatedBeanDefinition ?
+			((AnnotatedBeanDefinition) definition).getFactoryMethodMetadata() : null;
+		return null != factoryMethod && factoryMethod.getDeclaringClassName().startsWith(PACKAGE_PREFIX);
+	}
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+import static java.util.jar.Attributes.Name.IMPLEMENTATION_TITLE;
+import static java.util.jar.Attributes.Name.IMPLEMENTATION_VERSION;
+
+/**
+ * IHub组件构建信息
+ * <p>
+ * 首次访问时一次性读取类路径上所有ihub模块jar的清单（仅读取清单条目），之后不可变
+ *
+ * @author henry
+ * @see IHubLibsVersion
+ */
+@Getter
+public final class IHubLibsBuildInfo {
+
+	/**
+	 * 清单属性：Git提交
+	 */
+	public static final String GIT_COMMIT = "Git-Commit";
+	/**
+	 * 清单属性：构建时间
+	 */
+	public static final String BUILD_TIME = "Build-Time";
+
+	private static final String MODULE_PREFIX = "ihub-";
+	private static final String JAR_SUFFIX = ".jar";
+	private static final String CORE_MODULE = "ihub-core";
+
+	/**
+	 * 组件版本
+	 */
+	private final String version;
+	/**
+	 * Git提交
+	 */
+	private final String gitCommit;
+	/**
+	 * 构建时间
+	 */
+	private final String buildTime;
+	/**
+	 * 模块版本
+	 */
+	private final Map<String, String> modules;
+
+	private IHubLibsBuildInfo(String version, String gitCommit, String buildTime, Map<String, String> modules) {
+		this.version = version;
+		this.gitCommit = gitCommit;
+		this.buildTime = buildTime;
+		this.modules = Collections.unmodifiableMap(modules);
+	}
+
+	/**
+	 * 获取构建信息
+	 *
+	 * @return 构建信息
+	 */
+	public static IHubLibsBuildInfo get() {
+		return BuildInfoHolder.INSTANCE;
+	}
+
+	/**
+	 * 转换为map（用于信息端点）
+	 *
+	 * @return 构建信息
+	 */
+	public Map<String, Object> toMap() {
+		Map<String, Object> info = new LinkedHashMap<>(8);
+		info.put("version", version);
+		info.put("gitCommit", gitCommit);
+		info.put("buildTime", buildTime);
+		info.put("modules", modules);
+		return info;
+	}
+
+	private static IHubLibsBuildInfo load() {
+		Map<String, String> modules = new TreeMap<>();
+		Attributes core = null;
+		try {
+			Enumeration<URL> manifests = IHubLibsBuildInfo.class.getClassLoader().getResources(JarFile.MANIFEST_NAME);
+			while (manifests.hasMoreElements()) {
+				URL url = manifests.nextElement();
+				String jarName = jarName(url);
+				if (null == jarName) {
+					continue;
+				}
+				Attributes attributes;
+				try {
+					attributes = readManifest(url);
+				} catch (IOException e) {
+					continue;
+				}
+				String title = attributes.getValue(IMPLEMENTATION_TITLE);
+				String module = null == title ? jarName : title;
+				modules.put(module, attributes.getValue(IMPLEMENTATION_VERSION));
+				if (null == core || CORE_MODULE.equals(module)) {
+					core = attributes;
+				}
+			}
+		} catch (IOException ignored) {
+			// 类路径不可读时返回空模块信息
+		}
+		return new IHubLibsBuildInfo(IHubLibsVersion.getVersion(),
+			null == core ? null : core.getValue(GIT_COMMIT),
+			null == core ? null : core.getValue(BUILD_TIME), modules);
+	}
+
+	/**
+	 * 从清单地址解析ihub模块jar名称，如 jar:file:/app.jar!/BOOT-INF/lib/ihub-core-1.0.0.jar!/META-INF/MANIFEST.MF
+	 *
+	 * @param url 清单地址
+	 * @return jar名称（不含扩展名），非ihub模块返回null
+	 */
+	private static String jarName(URL url) {
+		String path = url.toString();
+		int end = path.length() - JarFile.MANIFEST_NAME.length() - 2;
+		if (end <= 0 || '!' != path.charAt(end)) {
+			return null;
+		}
+		String jar = path.substring(path.lastIndexOf('/', end) + 1, end);
+		return jar.startsWith(MODULE_PREFIX) && jar.endsWith(JAR_SUFFIX) ?
+			jar.substring(0, jar.length() - JAR_SUFFIX.length()) : null;
+	}
+
+	private static Attributes readManifest(URL url) throws IOException {
+		try (InputStream inputStream = url.openStream()) {
+			return new Manifest(inputStream).getMainAttributes();
+		}
+	}
+
+	private static final class BuildInfoHolder {
+
+		private static final IHubLibsBuildInfo INSTANCE = load();
+
+	}
+
+}
@@ -17,10 +17,12 @@ package pub.ihub.core;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.JarURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
 import java.security.CodeSource;
+import java.util.Properties;
 import java.util.jar.JarFile;
 
 import static java.util.jar.Attributes.Name.IMPLEMENTATION_VERSION;
@@ -33,10 +35,40 @@ import static java.util.jar.Attributes.Name.IMPLEMENTATION_VERSION;
  */
 public final class IHubLibsVersion {
 
+	private static final String UNSPECIFIED_VERSION = "unspecified";
+
+	private static final String VERSION_RESOURCE = "ihub-libs-version.properties";
+
 	public static String getVersion() {
+		return VersionHolder.VERSION;
+	}
+
+	/**
+	 * 优先使用构建时生成的版本资源，未生成（如IDE构建）时从jar清单解析，仅解析一次
+	 *
+	 * @return 版本
+	 */
+	private static String resolveVersion() {
+		String version = buildVersion();
+		if (null != version && !version.isEmpty() && !UNSPECIFIED_VERSION.equals(version)) {
+			return version;
+		}
 		return determineVersion();
 	}
 
+	private static String buildVersion() {
+		try (InputStream inputStream = IHubLibsVersion.class.getResourceAsStream(VERSION_RESOURCE)) {
+			if (null == inputStream) {
+				return null;
+			}
+			Properties properties = new Properties();
+			properties.load(inputStream);
+			return properties.getProperty("version");
+		} catch (IOException ex) {
+			return null;
+		}
+	}
+
 	private static String determineVersion() {
 		String implementationVersion = IHubLibsVersion.class.getPackage().getImplementationVersion();
 		if (implementationVersion != null) {
@@ -64,4 +96,10 @@ public final class IHubLibsVersion {
 		return jarFile.getManifest().getMainAttributes().getValue(IMPLEMENTATION_VERSION);
 	}
 
+	private static final class VersionHolder {
+
+		private static final String VERSION = resolveVersion();
+
+	}
+
 }
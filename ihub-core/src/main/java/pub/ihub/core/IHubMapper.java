@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * 对象映射接口
+ * <p>
+ * 由ihub-core-processor在编译期生成名为“接口名+Impl”的实现类，映射方法为直接调用setter的顺序代码，
+ * 按同名属性赋值，条件及转换语义与{@link ObjectBuilder}一致
+ *
+ * @author henry
+ * @see IHubMapping
+ */
+@Documented
+@Retention(CLASS)
+@Target(TYPE)
+public @interface IHubMapper {
+
+	/**
+	 * 源属性为null时跳过赋值
+	 *
+	 * @return 是否跳过
+	 */
+	boolean nonNull() default false;
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import org.springframework.core.convert.converter.Converter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * 对象映射属性配置
+ *
+ * @author henry
+ * @see IHubMapper
+ */
+@Documented
+@Retention(CLASS)
+@Target(METHOD)
+@Repeatable(IHubMapping.List.class)
+public @interface IHubMapping {
+
+	/**
+	 * 目标属性
+	 *
+	 * @return 属性名称
+	 */
+	String target();
+
+	/**
+	 * 源属性，默认与目标属性同名
+	 *
+	 * @return 属性名称
+	 */
+	String source() default "";
+
+	/**
+	 * 忽略目标属性
+	 *
+	 * @return 是否忽略
+	 */
+	boolean ignore() default false;
+
+	/**
+	 * 源属性为null时跳过赋值
+	 *
+	 * @return 是否跳过
+	 */
+	boolean nonNull() default false;
+
+	/**
+	 * 值转换器，须有无参构造方法；未指定且类型不兼容时使用{@link ValueConverters}
+	 *
+	 * @return 值转换器类
+	 */
+	@SuppressWarnings("rawtypes")
+	Class<? extends Converter> converter() default Converter.class;
+
+	/**
+	 * 对象映射属性配置集
+	 */
+	@Documented
+	@Retention(CLASS)
+	@Target(METHOD)
+	@interface List {
+
+		IHubMapping[] value();
+
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import static pub.ihub.core.Constant.PROPERTIES_PREFIX;
+
+/**
+ * IHub启动步骤
+ * <p>
+ * IHub组件的启动步骤统一以"ihub."为前缀记录到{@link ApplicationStartup}，由{@link IHubStartupReport}汇总
+ *
+ * @author henry
+ */
+public final class IHubStartup {
+
+	/**
+	 * 启动步骤名称前缀
+	 */
+	public static final String STEP_PREFIX = PROPERTIES_PREFIX + ".";
+	/**
+	 * 开启启动耗时分析（系统属性，环境配置加载前即需生效）
+	 */
+	public static final String PROFILE_PROPERTY = PROPERTIES_PREFIX + ".startup.profile";
+	/**
+	 * 单个启动步骤耗时预算，超出时告警（如：200ms）
+	 */
+	public static final String BUDGET_PROPERTY = PROPERTIES_PREFIX + ".startup.budget";
+	/**
+	 * 延迟初始化模式，IHub组件Bean及文档、匹配器等在首次使用时才创建
+	 */
+	public static final String LAZY_PROPERTY = PROPERTIES_PREFIX + ".startup.lazy";
+
+	private IHubStartup() {
+	}
+
+	/**
+	 * 开始启动步骤
+	 *
+	 * @param startup 应用启动记录器
+	 * @param name    步骤名称（不含前缀）
+	 * @return 启动步骤
+	 */
+	public static StartupStep start(ApplicationStartup startup, String name) {
+		return (null == startup ? ApplicationStartup.DEFAULT : startup).start(STEP_PREFIX + name);
+	}
+
+	/**
+	 * 开始启动步骤
+	 *
+	 * @param application 应用
+	 * @param name        步骤名称（不含前缀）
+	 * @return 启动步骤
+	 */
+	public static StartupStep start(SpringApplication application, String name) {
+		return start(null == application ? null : application.getApplicationStartup(), name);
+	}
+
+}
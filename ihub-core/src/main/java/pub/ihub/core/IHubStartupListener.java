@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartingEvent;
+import org.springframework.boot.context.event.SpringApplicationEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+
+import java.time.Duration;
+
+import static pub.ihub.core.IHubStartup.BUDGET_PROPERTY;
+import static pub.ihub.core.IHubStartup.PROFILE_PROPERTY;
+
+/**
+ * IHub启动耗时分析
+ * <p>
+ * 系统属性ihub.startup.profile=true时自动启用{@link BufferingApplicationStartup}；
+ * 应用使用{@link BufferingApplicationStartup}时，启动完成后输出IHub启动耗时报告，超出预算的步骤输出告警
+ *
+ * @author henry
+ */
+public class IHubStartupListener implements ApplicationListener<SpringApplicationEvent> {
+
+	private static final Log LOG = LogFactory.getLog(IHubStartupListener.class);
+
+	private static final int CAPACITY = 10000;
+
+	private static final Duration DEFAULT_BUDGET = Duration.ofMillis(200);
+
+	@Override
+	public void onApplicationEvent(SpringApplicationEvent event) {
+		SpringApplication application = event.getSpringApplication();
+		if (event instanceof ApplicationStartingEvent) {
+			if (Boolean.getBoolean(PROFILE_PROPERTY) && ApplicationStartup.DEFAULT == application.getApplicationStartup()) {
+				application.setApplicationStartup(new BufferingApplicationStartup(CAPACITY));
+			}
+		} else if (event instanceof ApplicationReadyEvent &&
+			application.getApplicationStartup() instanceof BufferingApplicationStartup) {
+			Duration budget = ((ApplicationReadyEvent) event).getApplicationContext().getEnvironment()
+				.getProperty(BUDGET_PROPERTY, Duration.class, DEFAULT_BUDGET);
+			// 不清空缓冲区，actuator startup端点仍可读取
+			IHubStartupReport report = IHubStartupReport.of(
+				((BufferingApplicationStartup) application.getApplicationStartup()).getBufferedTimeline(), budget);
+			LOG.info(report);
+			report.getOverBudgetSteps().forEach(step -> LOG.warn("IHub启动步骤超出预算：" + step.getName() +
+				step.getTags() + "，耗时" + step.getDuration().toMillis() + "ms"));
+		}
+	}
+
+}
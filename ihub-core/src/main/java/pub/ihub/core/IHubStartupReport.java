@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.StartupStep;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+import static pub.ihub.core.Constant.BASE_PACKAGES;
+import static pub.ihub.core.IHubStartup.STEP_PREFIX;
+
+/**
+ * IHub启动耗时报告
+ * <p>
+ * 从启动时间线中筛选IHub步骤（"ihub."前缀步骤及IHub组件Bean的创建），按耗时倒序排列并标记超出预算的步骤
+ *
+ * @author henry
+ */
+public final class IHubStartupReport {
+
+	private final List<Step> steps;
+
+	private final Duration budget;
+
+	private IHubStartupReport(List<Step> steps, Duration budget) {
+		this.steps = steps;
+		this.budget = budget;
+	}
+
+	/**
+	 * 生成启动耗时报告
+	 *
+	 * @param timeline 启动时间线
+	 * @param budget   单个步骤耗时预算
+	 * @return 启动耗时报告
+	 */
+	public static IHubStartupReport of(StartupTimeline timeline, Duration budget) {
+		List<Step> steps = new ArrayList<>();
+		for (TimelineEvent event : timeline.getEvents()) {
+			StartupStep step = event.getStartupStep();
+			String tags = describe(step);
+			if (step.getName().startsWith(STEP_PREFIX) || tags.contains(BASE_PACKAGES + ".")) {
+				steps.add(new Step(step.getName(), tags, event.getDuration(), event.getDuration().compareTo(budget) > 0));
+			}
+		}
+		steps.sort(Comparator.comparing(Step::getDuration).reversed());
+		return new IHubStartupReport(unmodifiableList(steps), budget);
+	}
+
+	/**
+	 * 按耗时倒序排列的IHub启动步骤
+	 *
+	 * @return 启动步骤
+	 */
+	public List<Step> getSteps() {
+		return steps;
+	}
+
+	/**
+	 * 超出预算的启动步骤
+	 *
+	 * @return 启动步骤
+	 */
+	public List<Step> getOverBudgetSteps() {
+		return steps.stream().filter(Step::isOverBudget).collect(toList());
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder("IHub启动耗时报告（预算：").append(budget.toMillis()).append("ms）");
+		for (Step step : steps) {
+			report.append(System.lineSeparator())
+				.append(step.isOverBudget() ? "  ! " : "    ")
+				.append(String.format("%8dms  ", step.getDuration().toMillis()))
+				.append(step.getName());
+			if (!step.getTags().isEmpty()) {
+				report.append(" ").append(step.getTags());
+			}
+		}
+		return report.toString();
+	}
+
+	private static String describe(StartupStep step) {
+		StringJoiner tags = new StringJoiner(", ", "[", "]").setEmptyValue("");
+		for (StartupStep.Tag tag : step.getTags()) {
+			tags.add(tag.getKey() + "=" + tag.getValue());
+		}
+		return tags.toString();
+	}
+
+	/**
+	 * 启动步骤
+	 */
+	public static final class Step {
+
+		private final String name;
+
+		private final String tags;
+
+		private final Duration duration;
+
+		private final boolean overBudget;
+
+		private Step(String name, String tags, Duration duration, boolean overBudget) {
+			this.name = name;
+			this.tags = tags;
+			this.duration = duration;
+			this.overBudget = overBudget;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getTags() {
+			return tags;
+		}
+
+		public Duration getDuration() {
+			return duration;
+		}
+
+		public boolean isOverBudget() {
+			return overBudget;
+		}
+
+	}
+
+}
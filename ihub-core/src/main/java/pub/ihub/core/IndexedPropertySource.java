@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import org.springframework.boot.origin.Origin;
+import org.springframework.boot.origin.OriginLookup;
+import org.springframework.core.env.EnumerablePropertySource;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 索引属性源
+ * <p>
+ * 属性不可变，创建时复制为散列索引并缓存属性名；宽松绑定由Spring Boot的配置属性源适配完成，
+ * 声明为不可变属性源，Spring Boot可缓存其配置属性名映射
+ *
+ * @author henry
+ */
+public class IndexedPropertySource extends EnumerablePropertySource<Map<String, Object>>
+	implements OriginLookup<String> {
+
+	private final String[] propertyNames;
+
+	public IndexedPropertySource(String name, Map<String, Object> source) {
+		super(name, Collections.unmodifiableMap(new HashMap<>(source)));
+		propertyNames = source.keySet().toArray(new String[0]);
+	}
+
+	@Override
+	public Object getProperty(String name) {
+		return this.source.get(name);
+	}
+
+	@Override
+	public boolean containsProperty(String name) {
+		return this.source.containsKey(name);
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return propertyNames.clone();
+	}
+
+	@Override
+	public Origin getOrigin(String key) {
+		return null;
+	}
+
+	@Override
+	public boolean isImmutable() {
+		return true;
+	}
+
+}
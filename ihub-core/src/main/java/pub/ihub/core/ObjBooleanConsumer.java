@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+/**
+ * 对象及boolean值消费者
+ *
+ * @param <T> 对象类型
+ * @author henry
+ * @see java.util.function.ObjIntConsumer
+ */
+@FunctionalInterface
+public interface ObjBooleanConsumer<T> {
+
+	/**
+	 * 消费对象及值
+	 *
+	 * @param t     对象
+	 * @param value 值
+	 */
+	void accept(T t, boolean value);
+
+}
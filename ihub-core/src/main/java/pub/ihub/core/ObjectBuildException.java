@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 对象构建异常
+ * <p>
+ * 不填充堆栈，可预先创建后重复抛出；构建器原样抛出或收集调用方提供的异常，不做任何修改，
+ * 转换异常在调试日志中输出，收集模式下由{@link #getCauses()}提供
+ *
+ * @author henry
+ */
+public class ObjectBuildException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient List<Throwable> errors;
+
+	private final transient List<Throwable> causes;
+
+	public ObjectBuildException(String message) {
+		this(message, Collections.emptyList());
+	}
+
+	public ObjectBuildException(String message, List<Throwable> errors) {
+		this(message, errors, Collections.emptyList());
+	}
+
+	public ObjectBuildException(String message, List<Throwable> errors, List<Throwable> causes) {
+		super(message, null, false, false);
+		this.errors = errors;
+		this.causes = causes;
+	}
+
+	/**
+	 * 获取预创建的异常
+	 *
+	 * @param message 异常信息
+	 * @return 异常生成方法（始终返回同一个异常）
+	 */
+	public static Supplier<ObjectBuildException> preallocated(String message) {
+		ObjectBuildException exception = new ObjectBuildException(message);
+		return () -> exception;
+	}
+
+	/**
+	 * 获取收集的异常
+	 *
+	 * @return 异常列表
+	 */
+	public List<Throwable> getErrors() {
+		return errors;
+	}
+
+	/**
+	 * 获取收集的转换异常，与{@link #getErrors()}按位置一一对应
+	 *
+	 * @return 转换异常列表
+	 */
+	public List<Throwable> getCauses() {
+		return causes;
+	}
+
+}
@@ -16,21 +16,37 @@
 package pub.ihub.core;
 
 import cn.hutool.core.map.MapUtil;
-import cn.hutool.core.util.ObjectUtil;
-import lombok.SneakyThrows;
 import org.springframework.core.convert.converter.Converter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
+import java.util.function.DoublePredicate;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 /**
  * 对象构建
@@ -40,8 +56,24 @@ import java.util.function.UnaryOperator;
  */
 public class ObjectBuilder<T> {
 
+	/**
+	 * 默认并行构建阈值
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 12;
+
 	private final T object;
 
+	private BuildErrorStrategy errorStrategy = BuildErrorStrategy.FAIL_FAST;
+
+	private List<Throwable> errors;
+
+	private List<Throwable> causes;
+
+	/**
+	 * 带转换赋值的调用序号，未指定属性名时用于区分同一类型的不同赋值
+	 */
+	private int conversionIndex;
+
 	public ObjectBuilder(T object) {
 		this.object = object;
 	}
@@ -64,9 +96,8 @@ public class ObjectBuilder<T> {
 	 * @param <T>   对象类型
 	 * @return 对象构建器
 	 */
-	@SneakyThrows
 	public static <T> ObjectBuilder<T> builder(Class<T> clazz) {
-		return new ObjectBuilder<>(clazz.getDeclaredConstructor().newInstance());
+		return new ObjectBuilder<>(ObjectInstantiator.newInstance(clazz));
 	}
 
 	/**
@@ -101,7 +132,129 @@ public class ObjectBuilder<T> {
 	 * @return 对象构建器
 	 */
 	public static <T> ObjectBuilder<T> clone(T object) {
-		return builder(ObjectUtil.clone(object));
+		return builder(ObjectCloner.clone(object));
+	}
+
+	//<editor-fold desc="批量构建对象">
+
+	/**
+	 * 批量构建对象
+	 *
+	 * @param sources 原始对象列表
+	 * @param plan    对象构建计划
+	 * @param <T>     对象类型
+	 * @param <S>     原始对象类型
+	 * @return 对象列表（与原始对象顺序一致，长度固定）
+	 */
+	public static <T, S> List<T> buildAll(List<S> sources, BuilderPlan<T, S> plan) {
+		return buildAll(sources.spliterator(), plan);
+	}
+
+	/**
+	 * 批量构建对象
+	 *
+	 * @param sources   原始对象列表
+	 * @param plan      对象构建计划
+	 * @param threshold 并行阈值，单个任务处理的最大对象数
+	 * @param executor  执行器
+	 * @param <T>       对象类型
+	 * @param <S>       原始对象类型
+	 * @return 对象列表（与原始对象顺序一致，长度固定）
+	 */
+	public static <T, S> List<T> buildAll(List<S> sources, BuilderPlan<T, S> plan, int threshold, Executor executor) {
+		return buildAll(sources.spliterator(), plan, threshold, executor);
+	}
+
+	/**
+	 * 批量构建对象
+	 *
+	 * @param sources 原始对象
+	 * @param plan    对象构建计划
+	 * @param <T>     对象类型
+	 * @param <S>     原始对象类型
+	 * @return 对象列表（与原始对象顺序一致，长度固定）
+	 */
+	public static <T, S> List<T> buildAll(Spliterator<S> sources, BuilderPlan<T, S> plan) {
+		return buildAll(sources, plan, PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * 批量构建对象
+	 * <p>
+	 * 原始对象数量超过并行阈值时按阈值拆分，交由执行器并行构建，结果按原始顺序写入预分配的数组；
+	 * 构建前先{@link BuilderPlan#compile() 编译}计划
+	 *
+	 * @param sources   原始对象
+	 * @param plan      对象构建计划
+	 * @param threshold 并行阈值，单个任务处理的最大对象数
+	 * @param executor  执行器
+	 * @param <T>       对象类型
+	 * @param <S>       原始对象类型
+	 * @return 对象列表（与原始对象顺序一致，长度固定）
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T, S> List<T> buildAll(Spliterator<S> sources, BuilderPlan<T, S> plan,
+										  int threshold, Executor executor) {
+		// 并行构建前冻结计划，保证步骤安全发布
+		BuilderPlan<T, S> compiled = plan.compile();
+		if (!sources.hasCharacteristics(Spliterator.SUBSIZED)) {
+			List<S> list = new ArrayList<>();
+			sources.forEachRemaining(list::add);
+			sources = list.spliterator();
+		}
+		Object[] result = new Object[(int) sources.getExactSizeIfKnown()];
+		if (result.length <= threshold) {
+			fill(sources, 0, compiled, result);
+		} else {
+			List<CompletableFuture<Void>> tasks = new ArrayList<>();
+			fork(sources, 0, compiled, result, threshold, executor, tasks);
+			try {
+				CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
+		}
+		return (List<T>) Arrays.asList(result);
+	}
+
+	private static <T, S> void fork(Spliterator<S> sources, int offset, BuilderPlan<T, S> plan, Object[] result,
+									int threshold, Executor executor, List<CompletableFuture<Void>> tasks) {
+		Spliterator<S> prefix;
+		while (sources.getExactSizeIfKnown() > threshold && null != (prefix = sources.trySplit())) {
+			int prefixSize = (int) prefix.getExactSizeIfKnown();
+			fork(prefix, offset, plan, result, threshold, executor, tasks);
+			offset += prefixSize;
+		}
+		int start = offset;
+		Spliterator<S> rest = sources;
+		tasks.add(CompletableFuture.runAsync(() -> fill(rest, start, plan, result), executor));
+	}
+
+	private static <T, S> void fill(Spliterator<S> sources, int offset, BuilderPlan<T, S> plan, Object[] result) {
+		int[] index = {offset};
+		sources.forEachRemaining(source -> result[index[0]++] = plan.build(source));
+	}
+
+	//</editor-fold>
+
+	/**
+	 * 获取各赋值属性的转换失败次数
+	 *
+	 * @return 赋值属性（“类名.属性名”，未指定属性名时为“类名#带转换赋值序号”）与失败次数
+	 */
+	public static Map<String, Long> getConversionFailures() {
+		return ConversionFailures.snapshot();
+	}
+
+	/**
+	 * 设置异常处理策略
+	 *
+	 * @param errorStrategy 异常处理策略
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> errorStrategy(BuildErrorStrategy errorStrategy) {
+		this.errorStrategy = errorStrategy;
+		return this;
 	}
 
 	//<editor-fold desc="给对象赋值">
@@ -133,6 +286,21 @@ public class ObjectBuilder<T> {
 		return set(setter, valueConverter.convert(value));
 	}
 
+	/**
+	 * 给对象赋值（按类型查找值转换器）
+	 *
+	 * @param setter     赋值方法
+	 * @param value      值
+	 * @param targetType 转换值类型
+	 * @param <S>        原始值类型
+	 * @param <V>        转换值类型
+	 * @return 对象构建器
+	 * @see ValueConverters
+	 */
+	public <S, V> ObjectBuilder<T> setAs(BiConsumer<T, V> setter, S value, Class<V> targetType) {
+		return set(setter, ValueConverters.convert(value, targetType));
+	}
+
 	/**
 	 * 给对象赋值（外部条件）
 	 *
@@ -168,6 +336,24 @@ public class ObjectBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * 给对象赋值（外部条件，按类型查找值转换器）
+	 *
+	 * @param condition  条件
+	 * @param setter     赋值方法
+	 * @param value      值
+	 * @param targetType 转换值类型
+	 * @param <S>        原始值类型
+	 * @param <V>        转换值类型
+	 * @return 对象构建器
+	 */
+	public <S, V> ObjectBuilder<T> setAs(boolean condition, BiConsumer<T, V> setter, S value, Class<V> targetType) {
+		if (condition) {
+			return setAs(setter, value, targetType);
+		}
+		return this;
+	}
+
 	/**
 	 * 给对象赋值（内部条件）
 	 *
@@ -244,14 +430,184 @@ public class ObjectBuilder<T> {
 	 */
 	public <S, V, X extends Throwable> ObjectBuilder<T> set(Predicate<S> predicate, BiConsumer<T, V> setter, S value,
 															Converter<S, V> valueConverter, Supplier<X> error) throws X {
+		int index = conversionIndex++;
+		try {
+			return set(predicate, setter, value, valueConverter);
+		} catch (Exception e) {
+			return onError(index, e, error);
+		}
+	}
+
+	/**
+	 * 给对象赋值（带自定义异常，指定属性名用于失败统计及日志）
+	 *
+	 * @param property       属性名
+	 * @param predicate      判断条件
+	 * @param setter         赋值方法
+	 * @param value          值
+	 * @param valueConverter 值转换器
+	 * @param error          异常
+	 * @param <S>            原始值类型
+	 * @param <V>            转换值类型
+	 * @param <X>            异常类型
+	 * @return 对象构建器
+	 * @throws X 赋值异常
+	 */
+	public <S, V, X extends Throwable> ObjectBuilder<T> set(String property, Predicate<S> predicate,
+															BiConsumer<T, V> setter, S value,
+															Converter<S, V> valueConverter, Supplier<X> error) throws X {
+		conversionIndex++;
 		try {
 			return set(predicate, setter, value, valueConverter);
 		} catch (Exception e) {
-			e.printStackTrace();
-			throw error.get();
+			return onError(property, e, error);
 		}
 	}
 
+	/**
+	 * 给对象赋值（int值）
+	 *
+	 * @param setter 赋值方法
+	 * @param value  值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setInt(ObjIntConsumer<T> setter, int value) {
+		setter.accept(object, value);
+		return this;
+	}
+
+	/**
+	 * 给对象赋值（int值，外部条件）
+	 *
+	 * @param condition 条件
+	 * @param setter    赋值方法
+	 * @param value     值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setInt(boolean condition, ObjIntConsumer<T> setter, int value) {
+		if (condition) {
+			return setInt(setter, value);
+		}
+		return this;
+	}
+
+	/**
+	 * 给对象赋值（int值，内部条件）
+	 *
+	 * @param predicate 判断条件
+	 * @param setter    赋值方法
+	 * @param value     值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setInt(IntPredicate predicate, ObjIntConsumer<T> setter, int value) {
+		return setInt(predicate.test(value), setter, value);
+	}
+
+	/**
+	 * 给对象赋值（long值）
+	 *
+	 * @param setter 赋值方法
+	 * @param value  值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setLong(ObjLongConsumer<T> setter, long value) {
+		setter.accept(object, value);
+		return this;
+	}
+
+	/**
+	 * 给对象赋值（long值，外部条件）
+	 *
+	 * @param condition 条件
+	 * @param setter    赋值方法
+	 * @param value     值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setLong(boolean condition, ObjLongConsumer<T> setter, long value) {
+		if (condition) {
+			return setLong(setter, value);
+		}
+		return this;
+	}
+
+	/**
+	 * 给对象赋值（long值，内部条件）
+	 *
+	 * @param predicate 判断条件
+	 * @param setter    赋值方法
+	 * @param value     值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setLong(LongPredicate predicate, ObjLongConsumer<T> setter, long value) {
+		return setLong(predicate.test(value), setter, value);
+	}
+
+	/**
+	 * 给对象赋值（double值）
+	 *
+	 * @param setter 赋值方法
+	 * @param value  值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setDouble(ObjDoubleConsumer<T> setter, double value) {
+		setter.accept(object, value);
+		return this;
+	}
+
+	/**
+	 * 给对象赋值（double值，外部条件）
+	 *
+	 * @param condition 条件
+	 * @param setter    赋值方法
+	 * @param value     值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setDouble(boolean condition, ObjDoubleConsumer<T> setter, double value) {
+		if (condition) {
+			return setDouble(setter, value);
+		}
+		return this;
+	}
+
+	/**
+	 * 给对象赋值（double值，内部条件）
+	 *
+	 * @param predicate 判断条件
+	 * @param setter    赋值方法
+	 * @param value     值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setDouble(DoublePredicate predicate, ObjDoubleConsumer<T> setter, double value) {
+		return setDouble(predicate.test(value), setter, value);
+	}
+
+	/**
+	 * 给对象赋值（boolean值）
+	 *
+	 * @param setter 赋值方法
+	 * @param value  值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setBoolean(ObjBooleanConsumer<T> setter, boolean value) {
+		setter.accept(object, value);
+		return this;
+	}
+
+	/**
+	 * 给对象赋值（boolean值，外部条件）
+	 *
+	 * @param condition 条件
+	 * @param setter    赋值方法
+	 * @param value     值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setBoolean(boolean condition, ObjBooleanConsumer<T> setter, boolean value) {
+		if (condition) {
+			return setBoolean(setter, value);
+		}
+		return this;
+	}
+
 	/**
 	 * 对象操作
 	 *
@@ -447,7 +803,9 @@ public class ObjectBuilder<T> {
 	@SafeVarargs
 	public final <C extends Collection<V>, V> ObjectBuilder<T> add(Function<T, C> getter, V... value) {
 		if (null != value) {
-			getter.apply(object).addAll(Arrays.asList(value));
+			C collection = getter.apply(object);
+			ensureCapacity(collection, value.length);
+			Collections.addAll(collection, value);
 		}
 		return this;
 	}
@@ -484,6 +842,243 @@ public class ObjectBuilder<T> {
 		return add(predicate.test(value), getter, value);
 	}
 
+	/**
+	 * 集合对象添加值（int数组）
+	 *
+	 * @param getter 原始集合
+	 * @param value  值
+	 * @param <C>    集合类型
+	 * @return 对象构建器
+	 */
+	public <C extends Collection<Integer>> ObjectBuilder<T> add(Function<T, C> getter, int[] value) {
+		if (null != value) {
+			C collection = getter.apply(object);
+			ensureCapacity(collection, value.length);
+			for (int v : value) {
+				collection.add(v);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * 集合对象添加值（long数组）
+	 *
+	 * @param getter 原始集合
+	 * @param value  值
+	 * @param <C>    集合类型
+	 * @return 对象构建器
+	 */
+	public <C extends Collection<Long>> ObjectBuilder<T> add(Function<T, C> getter, long[] value) {
+		if (null != value) {
+			C collection = getter.apply(object);
+			ensureCapacity(collection, value.length);
+			for (long v : value) {
+				collection.add(v);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * 集合对象添加值（double数组）
+	 *
+	 * @param getter 原始集合
+	 * @param value  值
+	 * @param <C>    集合类型
+	 * @return 对象构建器
+	 */
+	public <C extends Collection<Double>> ObjectBuilder<T> add(Function<T, C> getter, double[] value) {
+		if (null != value) {
+			C collection = getter.apply(object);
+			ensureCapacity(collection, value.length);
+			for (double v : value) {
+				collection.add(v);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * 集合对象添加值（流）
+	 *
+	 * @param getter 原始集合
+	 * @param value  值
+	 * @param <C>    集合类型
+	 * @param <V>    值类型
+	 * @return 对象构建器
+	 */
+	public <C extends Collection<V>, V> ObjectBuilder<T> add(Function<T, C> getter, Stream<? extends V> value) {
+		if (null != value) {
+			C collection = getter.apply(object);
+			Spliterator<? extends V> spliterator = value.spliterator();
+			long size = spliterator.getExactSizeIfKnown();
+			if (size > 0) {
+				ensureCapacity(collection, (int) size);
+			}
+			spliterator.forEachRemaining(collection::add);
+		}
+		return this;
+	}
+
+	/**
+	 * 列表对象赋值（按值数量预分配容量）
+	 *
+	 * @param setter 赋值方法
+	 * @param value  值
+	 * @param <V>    值类型
+	 * @return 对象构建器
+	 */
+	@SafeVarargs
+	public final <V> ObjectBuilder<T> setList(BiConsumer<T, List<V>> setter, V... value) {
+		if (null != value) {
+			List<V> list = new ArrayList<>(value.length);
+			Collections.addAll(list, value);
+			setter.accept(object, list);
+		}
+		return this;
+	}
+
+	/**
+	 * 列表对象赋值（按值数量预分配容量）
+	 *
+	 * @param setter 赋值方法
+	 * @param value  值
+	 * @param <V>    值类型
+	 * @return 对象构建器
+	 */
+	public <V> ObjectBuilder<T> setList(BiConsumer<T, List<V>> setter, Collection<? extends V> value) {
+		if (null != value) {
+			setter.accept(object, new ArrayList<>(value));
+		}
+		return this;
+	}
+
+	/**
+	 * 列表对象赋值（流大小已知时预分配容量）
+	 *
+	 * @param setter 赋值方法
+	 * @param value  值
+	 * @param <V>    值类型
+	 * @return 对象构建器
+	 */
+	public <V> ObjectBuilder<T> setList(BiConsumer<T, List<V>> setter, Stream<? extends V> value) {
+		if (null != value) {
+			Spliterator<? extends V> spliterator = value.spliterator();
+			long size = spliterator.getExactSizeIfKnown();
+			List<V> list = size < 0 ? new ArrayList<>() : new ArrayList<>((int) size);
+			spliterator.forEachRemaining(list::add);
+			setter.accept(object, list);
+		}
+		return this;
+	}
+
+	/**
+	 * 列表对象赋值（int数组，按值数量预分配容量）
+	 *
+	 * @param setter 赋值方法
+	 * @param value  值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setList(BiConsumer<T, List<Integer>> setter, int[] value) {
+		if (null != value) {
+			List<Integer> list = new ArrayList<>(value.length);
+			for (int v : value) {
+				list.add(v);
+			}
+			setter.accept(object, list);
+		}
+		return this;
+	}
+
+	/**
+	 * 列表对象赋值（long数组，按值数量预分配容量）
+	 *
+	 * @param setter 赋值方法
+	 * @param value  值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setList(BiConsumer<T, List<Long>> setter, long[] value) {
+		if (null != value) {
+			List<Long> list = new ArrayList<>(value.length);
+			for (long v : value) {
+				list.add(v);
+			}
+			setter.accept(object, list);
+		}
+		return this;
+	}
+
+	/**
+	 * 列表对象赋值（double数组，按值数量预分配容量）
+	 *
+	 * @param setter 赋值方法
+	 * @param value  值
+	 * @return 对象构建器
+	 */
+	public ObjectBuilder<T> setList(BiConsumer<T, List<Double>> setter, double[] value) {
+		if (null != value) {
+			List<Double> list = new ArrayList<>(value.length);
+			for (double v : value) {
+				list.add(v);
+			}
+			setter.accept(object, list);
+		}
+		return this;
+	}
+
+	/**
+	 * Set对象赋值（按值数量预分配容量）
+	 *
+	 * @param setter 赋值方法
+	 * @param value  值
+	 * @param <V>    值类型
+	 * @return 对象构建器
+	 */
+	@SafeVarargs
+	public final <V> ObjectBuilder<T> setSet(BiConsumer<T, Set<V>> setter, V... value) {
+		if (null != value) {
+			Set<V> set = new HashSet<>(initialCapacity(value.length));
+			Collections.addAll(set, value);
+			setter.accept(object, set);
+		}
+		return this;
+	}
+
+	/**
+	 * Set对象赋值（按值数量预分配容量）
+	 *
+	 * @param setter 赋值方法
+	 * @param value  值
+	 * @param <V>    值类型
+	 * @return 对象构建器
+	 */
+	public <V> ObjectBuilder<T> setSet(BiConsumer<T, Set<V>> setter, Collection<? extends V> value) {
+		if (null != value) {
+			setter.accept(object, new HashSet<>(value));
+		}
+		return this;
+	}
+
+	/**
+	 * Set对象赋值（流大小已知时预分配容量）
+	 *
+	 * @param setter 赋值方法
+	 * @param value  值
+	 * @param <V>    值类型
+	 * @return 对象构建器
+	 */
+	public <V> ObjectBuilder<T> setSet(BiConsumer<T, Set<V>> setter, Stream<? extends V> value) {
+		if (null != value) {
+			Spliterator<? extends V> spliterator = value.spliterator();
+			long size = spliterator.getExactSizeIfKnown();
+			Set<V> set = size < 0 ? new HashSet<>() : new HashSet<>(initialCapacity((int) size));
+			spliterator.forEachRemaining(set::add);
+			setter.accept(object, set);
+		}
+		return this;
+	}
+
 	//</editor-fold>
 
 	//<editor-fold desc="map对象添加值">
@@ -550,14 +1145,96 @@ public class ObjectBuilder<T> {
 		return this;
 	}
 
+	/**
+	 * 集合对象添加值
+	 *
+	 * @param getter  原始集合
+	 * @param entries 键值对
+	 * @param <K>     键值类型
+	 * @param <V>     值类型
+	 * @return 对象构建器
+	 */
+	public <K, V> ObjectBuilder<T> putAll(Function<T, Map<K, V>> getter,
+										  Iterable<? extends Map.Entry<? extends K, ? extends V>> entries) {
+		if (null != entries) {
+			Map<K, V> map = getter.apply(object);
+			for (Map.Entry<? extends K, ? extends V> entry : entries) {
+				map.put(entry.getKey(), entry.getValue());
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * map对象赋值（按键值对数量预分配容量）
+	 *
+	 * @param setter  赋值方法
+	 * @param entries 键值对
+	 * @param <K>     键值类型
+	 * @param <V>     值类型
+	 * @return 对象构建器
+	 */
+	public <K, V> ObjectBuilder<T> setMap(BiConsumer<T, Map<K, V>> setter,
+										  Collection<? extends Map.Entry<? extends K, ? extends V>> entries) {
+		if (null != entries) {
+			Map<K, V> map = new HashMap<>(initialCapacity(entries.size()));
+			for (Map.Entry<? extends K, ? extends V> entry : entries) {
+				map.put(entry.getKey(), entry.getValue());
+			}
+			setter.accept(object, map);
+		}
+		return this;
+	}
+
 	//</editor-fold>
 
+	private static void ensureCapacity(Collection<?> collection, int increment) {
+		if (collection instanceof ArrayList) {
+			((ArrayList<?>) collection).ensureCapacity(collection.size() + increment);
+		}
+	}
+
+	private static int initialCapacity(int size) {
+		return (int) (size / 0.75f) + 1;
+	}
+
+	/**
+	 * 按异常处理策略处理赋值异常，调用方提供的异常不做修改
+	 *
+	 * @param property 属性名，未指定时为带转换赋值序号
+	 */
+	private <X extends Throwable> ObjectBuilder<T> onError(Object property, Exception cause, Supplier<X> error)
+		throws X {
+		ConversionFailures.increment(object.getClass(), property);
+		switch (errorStrategy) {
+			case COLLECT:
+				if (null == errors) {
+					errors = new ArrayList<>();
+					causes = new ArrayList<>();
+				}
+				errors.add(error.get());
+				causes.add(cause);
+				return this;
+			case LOG:
+				BuildErrorLogger.log(object.getClass(), property, cause);
+				return this;
+			default:
+				// 调用方提供的异常可能为共享实例，原样抛出，转换异常仅输出到调试日志
+				BuildErrorLogger.debug(object.getClass(), property, cause);
+				throw error.get();
+		}
+	}
+
 	/**
 	 * 返回构建对象
 	 *
 	 * @return 对象
+	 * @throws ObjectBuildException 收集异常策略下存在赋值异常
 	 */
 	public T build() {
+		if (null != errors) {
+			throw new ObjectBuildException("对象构建失败，共" + errors.size() + "处赋值异常", errors, causes);
+		}
 		return object;
 	}
 
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import cn.hutool.core.util.ObjectUtil;
+import lombok.SneakyThrows;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Arrays.asList;
+
+/**
+ * 对象深度克隆
+ * <p>
+ * 按类生成并缓存克隆器：不可变类型（字符串、包装类型、java.time等）直接共享引用，
+ * 普通对象按字段句柄逐一复制，循环引用保持原有结构；JDK集合仅对状态只含元素的类型重建，
+ * 其余（含比较器、容量等状态）及无法生成克隆器的类型退化为{@link ObjectUtil#clone(Object)}；
+ * 既不可克隆也不可序列化的类型（如Optional、Object）无从复制，与不可变类型一样共享引用
+ *
+ * @author henry
+ */
+public final class ObjectCloner {
+
+	private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(asList(
+		String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+		Float.class, Double.class, BigInteger.class, BigDecimal.class, UUID.class, Locale.class, URI.class,
+		Class.class));
+
+	/**
+	 * 状态仅由元素构成的集合类型，可通过无参构造方法重建
+	 */
+	private static final Set<Class<?>> ELEMENT_ONLY_TYPES = new HashSet<>(asList(
+		ArrayList.class, LinkedList.class, ArrayDeque.class, HashMap.class, HashSet.class, LinkedHashSet.class));
+
+	private static final Copier IMMUTABLE = (source, copied) -> source;
+
+	private static final Copier FALLBACK = (source, copied) -> {
+		Object copy = ObjectUtil.clone(source);
+		if (null == copy) {
+			throw new IllegalStateException("对象克隆失败：" + source.getClass().getName());
+		}
+		copied.put(source, copy);
+		return copy;
+	};
+
+	private static final ClassValue<Copier> COPIERS = new ClassValue<Copier>() {
+		@Override
+		protected Copier computeValue(Class<?> type) {
+			return createCopier(type);
+		}
+	};
+
+	private ObjectCloner() {
+	}
+
+	/**
+	 * 深度克隆对象
+	 *
+	 * @param object 对象
+	 * @param <T>    对象类型
+	 * @return 克隆对象
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T clone(T object) {
+		return (T) copy(object, new IdentityHashMap<>());
+	}
+
+	private static Object copy(Object source, Map<Object, Object> copied) {
+		if (null == source) {
+			return null;
+		}
+		Copier copier = COPIERS.get(source.getClass());
+		if (copier == IMMUTABLE) {
+			return source;
+		}
+		Object copy = copied.get(source);
+		return null != copy ? copy : copier.copy(source, copied);
+	}
+
+	private static boolean isImmutable(Class<?> type) {
+		return type.isPrimitive() || IMMUTABLE_TYPES.contains(type) || Enum.class.isAssignableFrom(type) ||
+			type.getName().startsWith("java.time.");
+	}
+
+	private static Copier createCopier(Class<?> type) {
+		if (isImmutable(type)) {
+			return IMMUTABLE;
+		}
+		if (type.isArray()) {
+			return type.getComponentType().isPrimitive() ? ObjectCloner::copyPrimitiveArray : ObjectCloner::copyArray;
+		}
+		if (type.getName().startsWith("java.")) {
+			return createJdkCopier(type);
+		}
+		try {
+			return new BeanCopier(ObjectInstantiator.factory(type), createFieldCopiers(type));
+		} catch (Exception e) {
+			// 无无参构造方法、含final字段或字段不可访问
+			return fallback(type);
+		}
+	}
+
+	private static Copier fallback(Class<?> type) {
+		return Cloneable.class.isAssignableFrom(type) || Serializable.class.isAssignableFrom(type) ?
+			FALLBACK : IMMUTABLE;
+	}
+
+	//<editor-fold desc="JDK类型">
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Copier createJdkCopier(Class<?> type) {
+		if (TreeMap.class == type) {
+			return (source, copied) -> copyMap(new TreeMap(((TreeMap) source).comparator()), source, copied);
+		} else if (TreeSet.class == type) {
+			return (source, copied) -> copyCollection(new TreeSet(((TreeSet) source).comparator()), source, copied);
+		} else if (LinkedHashMap.class == type) {
+			// 访问顺序标志无法直接读取，浅克隆保留该标志后清空，再按原迭代顺序写入深度克隆的键值
+			return (source, copied) -> {
+				Map<Object, Object> copy = (Map<Object, Object>) ((LinkedHashMap) source).clone();
+				copy.clear();
+				return copyMap(copy, source, copied);
+			};
+		}
+		if (!ELEMENT_ONLY_TYPES.contains(type)) {
+			// 比较器、容量、并发等状态无法通过无参构造方法复制
+			return fallback(type);
+		}
+		Supplier<Object> factory = (Supplier<Object>) ObjectInstantiator.factory(type);
+		return Map.class.isAssignableFrom(type) ?
+			(source, copied) -> copyMap((Map<Object, Object>) factory.get(), source, copied) :
+			(source, copied) -> copyCollection((Collection<Object>) factory.get(), source, copied);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object copyCollection(Collection<Object> copy, Object source, Map<Object, Object> copied) {
+		copied.put(source, copy);
+		for (Object element : (Collection<Object>) source) {
+			copy.add(copy(element, copied));
+		}
+		return copy;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object copyMap(Map<Object, Object> copy, Object source, Map<Object, Object> copied) {
+		copied.put(source, copy);
+		for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) source).entrySet()) {
+			copy.put(copy(entry.getKey(), copied), copy(entry.getValue(), copied));
+		}
+		return copy;
+	}
+
+	private static Object copyPrimitiveArray(Object source, Map<Object, Object> copied) {
+		int length = Array.getLength(source);
+		Object copy = Array.newInstance(source.getClass().getComponentType(), length);
+		System.arraycopy(source, 0, copy, 0, length);
+		copied.put(source, copy);
+		return copy;
+	}
+
+	private static Object copyArray(Object source, Map<Object, Object> copied) {
+		Object[] array = (Object[]) source;
+		Object[] copy = (Object[]) Array.newInstance(source.getClass().getComponentType(), array.length);
+		copied.put(source, copy);
+		for (int i = 0; i < array.length; i++) {
+			copy[i] = copy(array[i], copied);
+		}
+		return copy;
+	}
+
+	//</editor-fold>
+
+	//<editor-fold desc="普通对象">
+
+	private static FieldCopier[] createFieldCopiers(Class<?> type) throws IllegalAccessException {
+		List<FieldCopier> copiers = new ArrayList<>();
+		for (Class<?> clazz = type; Object.class != clazz; clazz = clazz.getSuperclass()) {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+			for (Field field : clazz.getDeclaredFields()) {
+				int modifiers = field.getModifiers();
+				if (Modifier.isStatic(modifiers)) {
+					continue;
+				}
+				if (Modifier.isFinal(modifiers)) {
+					throw new IllegalAccessException("不支持复制final字段：" + field);
+				}
+				MethodHandle getter = lookup.unreflectGetter(field);
+				MethodHandle setter = lookup.unreflectSetter(field);
+				copiers.add(isImmutable(field.getType()) ?
+					new ValueCopier(MethodHandles.filterArguments(setter, 1, getter)
+						.asType(methodType(void.class, Object.class, Object.class))) :
+					new ReferenceCopier(getter.asType(methodType(Object.class, Object.class)),
+						setter.asType(methodType(void.class, Object.class, Object.class))));
+			}
+		}
+		return copiers.toArray(new FieldCopier[0]);
+	}
+
+	private static final class BeanCopier implements Copier {
+
+		private final Supplier<?> factory;
+
+		private final FieldCopier[] fields;
+
+		private BeanCopier(Supplier<?> factory, FieldCopier[] fields) {
+			this.factory = factory;
+			this.fields = fields;
+		}
+
+		@SneakyThrows
+		@Override
+		public Object copy(Object source, Map<Object, Object> copied) {
+			Object copy = factory.get();
+			copied.put(source, copy);
+			for (FieldCopier field : fields) {
+				field.copy(source, copy, copied);
+			}
+			return copy;
+		}
+
+	}
+
+	/**
+	 * 基本类型及不可变类型字段，直接复制值
+	 */
+	private static final class ValueCopier implements FieldCopier {
+
+		private final MethodHandle copier;
+
+		private ValueCopier(MethodHandle copier) {
+			this.copier = copier;
+		}
+
+		@Override
+		public void copy(Object source, Object target, Map<Object, Object> copied) throws Throwable {
+			copier.invokeExact(target, source);
+		}
+
+	}
+
+	/**
+	 * 引用类型字段，深度克隆值
+	 */
+	private static final class ReferenceCopier implements FieldCopier {
+
+		private final MethodHandle getter;
+
+		private final MethodHandle setter;
+
+		private ReferenceCopier(MethodHandle getter, MethodHandle setter) {
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		public void copy(Object source, Object target, Map<Object, Object> copied) throws Throwable {
+			Object value = (Object) getter.invokeExact(source);
+			setter.invokeExact(target, ObjectCloner.copy(value, copied));
+		}
+
+	}
+
+	//</editor-fold>
+
+	@FunctionalInterface
+	private interface Copier {
+
+		Object copy(Object source, Map<Object, Object> copied);
+
+	}
+
+	@FunctionalInterface
+	private interface FieldCopier {
+
+		void copy(Object source, Object target, Map<Object, Object> copied) throws Throwable;
+
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import lombok.SneakyThrows;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * 对象实例化工厂
+ * <p>
+ * 按类缓存无参构造方法生成的{@link Supplier}，缓存挂在{@link ClassValue}上，类卸载时随之回收
+ *
+ * @author henry
+ */
+final class ObjectInstantiator {
+
+	private static final ClassValue<Supplier<?>> FACTORIES = new ClassValue<Supplier<?>>() {
+		@Override
+		protected Supplier<?> computeValue(Class<?> type) {
+			return createFactory(type);
+		}
+	};
+
+	private ObjectInstantiator() {
+	}
+
+	/**
+	 * 获取对象生成方法
+	 *
+	 * @param clazz 对象类
+	 * @param <T>   对象类型
+	 * @return 对象生成方法
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> Supplier<T> factory(Class<T> clazz) {
+		return (Supplier<T>) FACTORIES.get(clazz);
+	}
+
+	/**
+	 * 实例化对象
+	 *
+	 * @param clazz 对象类
+	 * @param <T>   对象类型
+	 * @return 对象
+	 */
+	static <T> T newInstance(Class<T> clazz) {
+		return factory(clazz).get();
+	}
+
+	@SneakyThrows
+	private static Supplier<?> createFactory(Class<?> type) {
+		MethodHandles.Lookup lookup = lookupIn(type);
+		MethodHandle constructor = lookup.findConstructor(type, methodType(void.class));
+		try {
+			return (Supplier<?>) LambdaMetafactory.metafactory(lookup, "get", methodType(Supplier.class),
+				methodType(Object.class), constructor, methodType(type)).getTarget().invoke();
+		} catch (Throwable e) {
+			// 跨类加载器等场景无法生成lambda时，退化为直接调用构造方法句柄
+			MethodHandle generic = constructor.asType(methodType(Object.class));
+			return () -> invoke(generic);
+		}
+	}
+
+	private static MethodHandles.Lookup lookupIn(Class<?> type) {
+		try {
+			return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+		} catch (IllegalAccessException e) {
+			// 未开放的模块（如JDK内部类）只能访问公共构造方法
+			return MethodHandles.lookup();
+		}
+	}
+
+	@SneakyThrows
+	private static Object invoke(MethodHandle constructor) {
+		return constructor.invokeExact();
+	}
+
+}
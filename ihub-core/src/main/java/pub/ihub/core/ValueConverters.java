@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 值转换器注册表
+ * <p>
+ * 按（原始类型，目标类型）缓存转换器，读取无锁；未注册的类型对委托给{@link ConversionService}，
+ * 类型描述符只解析一次。两级缓存均挂在{@link ClassValue}上：转换器存放在目标类型上，类型描述符存放在各自类型上，
+ * 缓存不强引用其他类，应用类卸载时随之回收（显式注册的转换器由原始类型持有）
+ *
+ * @author henry
+ */
+public final class ValueConverters {
+
+	/**
+	 * 原始类型 -> （目标类型 -> 转换器）
+	 */
+	private static final ClassValue<TargetConverters> CONVERTERS = new ClassValue<TargetConverters>() {
+		@Override
+		protected TargetConverters computeValue(Class<?> type) {
+			return new TargetConverters();
+		}
+	};
+
+	private static final ClassValue<TypeDescriptor> TYPE_DESCRIPTORS = new ClassValue<TypeDescriptor>() {
+		@Override
+		protected TypeDescriptor computeValue(Class<?> type) {
+			return TypeDescriptor.valueOf(type);
+		}
+	};
+
+	private static volatile ConversionService conversionService = DefaultConversionService.getSharedInstance();
+
+	private ValueConverters() {
+	}
+
+	/**
+	 * 设置转换服务（如应用上下文中的ConversionService）
+	 *
+	 * @param conversionService 转换服务
+	 */
+	public static void setConversionService(ConversionService conversionService) {
+		ValueConverters.conversionService = conversionService;
+	}
+
+	/**
+	 * 注册值转换器
+	 *
+	 * @param sourceType 原始值类型
+	 * @param targetType 转换值类型
+	 * @param converter  值转换器
+	 * @param <S>        原始值类型
+	 * @param <V>        转换值类型
+	 */
+	public static <S, V> void register(Class<S> sourceType, Class<V> targetType, Converter<S, V> converter) {
+		CONVERTERS.get(sourceType).register(targetType, converter);
+	}
+
+	/**
+	 * 获取值转换器
+	 *
+	 * @param sourceType 原始值类型
+	 * @param targetType 转换值类型
+	 * @param <S>        原始值类型
+	 * @param <V>        转换值类型
+	 * @return 值转换器
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S, V> Converter<S, V> getConverter(Class<S> sourceType, Class<V> targetType) {
+		return (Converter<S, V>) CONVERTERS.get(sourceType).get(targetType);
+	}
+
+	/**
+	 * 转换值
+	 *
+	 * @param value      原始值
+	 * @param targetType 转换值类型
+	 * @param <S>        原始值类型
+	 * @param <V>        转换值类型
+	 * @return 转换值
+	 */
+	@SuppressWarnings("unchecked")
+	public static <S, V> V convert(S value, Class<V> targetType) {
+		if (null == value) {
+			return null;
+		}
+		return getConverter((Class<S>) value.getClass(), targetType).convert(value);
+	}
+
+	/**
+	 * 委托转换服务的转换器，只引用目标类型（存放位置）的类型描述符，原始类型描述符按值的类型读取
+	 */
+	private static Converter<Object, Object> serviceConverter(Class<?> targetType) {
+		TypeDescriptor target = TYPE_DESCRIPTORS.get(targetType);
+		return value -> conversionService.convert(value, TYPE_DESCRIPTORS.get(value.getClass()), target);
+	}
+
+	/**
+	 * 同一原始类型下按目标类型缓存的转换器
+	 */
+	private static final class TargetConverters extends ClassValue<Converter<?, ?>> {
+
+		private final Map<Class<?>, Converter<?, ?>> registered = new ConcurrentHashMap<>(4);
+
+		@Override
+		protected Converter<?, ?> computeValue(Class<?> targetType) {
+			Converter<?, ?> converter = registered.get(targetType);
+			return null == converter ? serviceConverter(targetType) : converter;
+		}
+
+		private void register(Class<?> targetType, Converter<?, ?> converter) {
+			registered.put(targetType, converter);
+			// 清除已缓存的转换器，下次读取时取注册值
+			remove(targetType);
+		}
+
+	}
+
+}
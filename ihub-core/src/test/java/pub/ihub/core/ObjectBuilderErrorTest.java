@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 赋值异常处理测试：调用方提供的异常原样抛出、不被修改，预创建异常的快速失败不分配对象
+ *
+ * @author henry
+ */
+class ObjectBuilderErrorTest {
+
+	private static final int ITERATIONS = 100_000;
+
+	private static final IllegalArgumentException CONVERSION_ERROR = new IllegalArgumentException("conversion");
+
+	private static final Predicate<String> ALWAYS = value -> true;
+
+	private static final BiConsumer<Sample, Integer> SETTER = Sample::setValue;
+
+	private static final Converter<String, Integer> FAILING = value -> {
+		throw CONVERSION_ERROR;
+	};
+
+	private static final Supplier<ObjectBuildException> PREALLOCATED =
+		ObjectBuildException.preallocated("value invalid");
+
+	@Test
+	void failFastThrowsPreallocatedUnchanged() {
+		ObjectBuildException expected = PREALLOCATED.get();
+		ObjectBuildException thrown = assertThrows(ObjectBuildException.class, () -> ObjectBuilder.builder(new Sample())
+			.set("value", ALWAYS, SETTER, "x", FAILING, PREALLOCATED));
+		assertSame(expected, thrown);
+		assertNull(thrown.getCause());
+	}
+
+	@Test
+	void failFastNeverMutatesCallerException() {
+		IllegalStateException shared = new IllegalStateException("shared");
+		for (int i = 0; i < 2; i++) {
+			String value = "x" + i;
+			IllegalStateException thrown = assertThrows(IllegalStateException.class, () ->
+				ObjectBuilder.builder(new Sample()).set(ALWAYS, SETTER, value, Integer::valueOf, () -> shared));
+			assertSame(shared, thrown);
+		}
+		assertThrows(IllegalStateException.class, () -> ObjectBuilder.builder(new Sample())
+			.set(ALWAYS, SETTER, "x", Integer::valueOf, () -> shared));
+		assertNull(shared.getCause());
+		assertEquals(0, shared.getSuppressed().length);
+	}
+
+	@Test
+	void collectKeepsCauses() {
+		IllegalStateException shared = new IllegalStateException("shared");
+		ObjectBuildException thrown = assertThrows(ObjectBuildException.class, () -> ObjectBuilder.builder(new Sample())
+			.errorStrategy(BuildErrorStrategy.COLLECT)
+			.set("first", ALWAYS, SETTER, "a", Integer::valueOf, () -> shared)
+			.set("second", ALWAYS, SETTER, "b", FAILING, () -> shared)
+			.build());
+		assertEquals(2, thrown.getErrors().size());
+		assertSame(shared, thrown.getErrors().get(0));
+		assertTrue(thrown.getCauses().get(0) instanceof NumberFormatException);
+		assertSame(CONVERSION_ERROR, thrown.getCauses().get(1));
+		assertNull(shared.getCause());
+	}
+
+	@Test
+	void countFailuresByProperty() {
+		for (int i = 0; i < 3; i++) {
+			try {
+				ObjectBuilder.builder(new Sample()).set("counted", ALWAYS, SETTER, "x", FAILING, PREALLOCATED);
+			} catch (ObjectBuildException e) {
+				// 预期异常
+			}
+		}
+		assertEquals(Long.valueOf(3L), ObjectBuilder.getConversionFailures().get(Sample.class.getName() + ".counted"));
+	}
+
+	@Test
+	void failFastWithoutAllocation() {
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		com.sun.management.ThreadMXBean threadMXBean =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+		threadMXBean.setThreadAllocatedMemoryEnabled(true);
+		ObjectBuilder<Sample> builder = ObjectBuilder.builder(new Sample());
+		// 预热：初始化计数器及异常处理路径，不计入统计
+		failRepeatedly(builder);
+		long threadId = Thread.currentThread().getId();
+		long before = threadMXBean.getThreadAllocatedBytes(threadId);
+		failRepeatedly(builder);
+		long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+		assertTrue(allocated < ITERATIONS, ITERATIONS + "次快速失败分配了" + allocated + "字节");
+	}
+
+	private static void failRepeatedly(ObjectBuilder<Sample> builder) {
+		for (int i = 0; i < ITERATIONS; i++) {
+			try {
+				builder.set("allocation", ALWAYS, SETTER, "x", FAILING, PREALLOCATED);
+			} catch (ObjectBuildException e) {
+				// 预期异常
+			}
+		}
+	}
+
+	static class Sample {
+
+		private Integer value;
+
+		void setValue(Integer value) {
+			this.value = value;
+		}
+
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 基本类型赋值测试：setInt/setLong/setDouble/setBoolean赋值过程不装箱、不分配对象
+ *
+ * @author henry
+ */
+class ObjectBuilderPrimitiveSetterTest {
+
+	private static final int ITERATIONS = 100_000;
+
+	/**
+	 * 装箱一次至少分配16字节，平均每次赋值分配不足1字节即可排除装箱
+	 */
+	private static final long MAX_ALLOCATED_BYTES = ITERATIONS;
+
+	private static com.sun.management.ThreadMXBean threadMXBean;
+
+	private final ObjIntConsumer<Sample> intSetter = Sample::setIntValue;
+
+	private final ObjLongConsumer<Sample> longSetter = Sample::setLongValue;
+
+	private final ObjDoubleConsumer<Sample> doubleSetter = Sample::setDoubleValue;
+
+	private final ObjBooleanConsumer<Sample> booleanSetter = Sample::setBooleanValue;
+
+	private final Sample sample = new Sample();
+
+	private final ObjectBuilder<Sample> builder = ObjectBuilder.builder(sample);
+
+	@BeforeAll
+	static void checkSupported() {
+		assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+		threadMXBean.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	@Test
+	void setIntWithoutBoxing() {
+		assertNoAllocation(() -> {
+			for (int i = 0; i < ITERATIONS; i++) {
+				builder.setInt(intSetter, i + 1000);
+			}
+		});
+		assertEquals(ITERATIONS + 999, sample.intValue);
+	}
+
+	@Test
+	void setLongWithoutBoxing() {
+		assertNoAllocation(() -> {
+			for (long i = 0; i < ITERATIONS; i++) {
+				builder.setLong(longSetter, i + 1000L);
+			}
+		});
+		assertEquals(ITERATIONS + 999L, sample.longValue);
+	}
+
+	@Test
+	void setDoubleWithoutBoxing() {
+		assertNoAllocation(() -> {
+			for (int i = 0; i < ITERATIONS; i++) {
+				builder.setDouble(doubleSetter, i + 0.5d);
+			}
+		});
+		assertEquals(ITERATIONS - 0.5d, sample.doubleValue);
+	}
+
+	@Test
+	void setBooleanWithoutBoxing() {
+		assertNoAllocation(() -> {
+			for (int i = 0; i < ITERATIONS; i++) {
+				builder.setBoolean(booleanSetter, 0 == (i & 1));
+			}
+		});
+		assertEquals(false, sample.booleanValue);
+	}
+
+	private static void assertNoAllocation(Runnable setters) {
+		// 预热：加载lambda类及初始化赋值路径，不计入统计
+		setters.run();
+		long threadId = Thread.currentThread().getId();
+		long before = threadMXBean.getThreadAllocatedBytes(threadId);
+		setters.run();
+		long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+		assertTrue(allocated < MAX_ALLOCATED_BYTES, ITERATIONS + "次赋值分配了" + allocated + "字节");
+	}
+
+	static class Sample {
+
+		private int intValue;
+
+		private long longValue;
+
+		private double doubleValue;
+
+		private boolean booleanValue;
+
+		void setIntValue(int intValue) {
+			this.intValue = intValue;
+		}
+
+		void setLongValue(long longValue) {
+			this.longValue = longValue;
+		}
+
+		void setDoubleValue(double doubleValue) {
+			this.doubleValue = doubleValue;
+		}
+
+		void setBooleanValue(boolean booleanValue) {
+			this.booleanValue = booleanValue;
+		}
+
+	}
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.PriorityBlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 对象深度克隆测试：JDK集合克隆后保持比较器及迭代顺序，普通对象保持引用结构，无法复制的值不丢失
+ *
+ * @author henry
+ */
+class ObjectClonerTest {
+
+	private static final Comparator<String> REVERSE = Comparator.reverseOrder();
+
+	@Test
+	void cloneArrayList() {
+		List<StringBuilder> list = new ArrayList<>(Arrays.asList(new StringBuilder("a"), new StringBuilder("b")));
+		List<StringBuilder> copy = ObjectCloner.clone(list);
+		assertNotSame(list, copy);
+		assertNotSame(list.get(0), copy.get(0));
+		assertEquals("[a, b]", copy.toString());
+	}
+
+	@Test
+	void cloneTreeMapKeepsComparator() {
+		TreeMap<String, Integer> map = new TreeMap<>(REVERSE);
+		map.put("a", 1);
+		map.put("c", 3);
+		map.put("b", 2);
+		TreeMap<String, Integer> copy = ObjectCloner.clone(map);
+		copy.put("d", 4);
+		assertEquals(REVERSE, copy.comparator());
+		assertEquals(Arrays.asList("d", "c", "b", "a"), new ArrayList<>(copy.keySet()));
+	}
+
+	@Test
+	void cloneTreeSetKeepsComparator() {
+		TreeSet<String> set = new TreeSet<>(REVERSE);
+		set.addAll(Arrays.asList("a", "c", "b"));
+		TreeSet<String> copy = ObjectCloner.clone(set);
+		assertEquals(Arrays.asList("c", "b", "a"), new ArrayList<>(copy));
+	}
+
+	@Test
+	void clonePriorityQueueKeepsComparator() {
+		PriorityQueue<String> queue = new PriorityQueue<>(REVERSE);
+		queue.addAll(Arrays.asList("a", "c", "b"));
+		PriorityQueue<String> copy = ObjectCloner.clone(queue);
+		assertNotSame(queue, copy);
+		assertEquals(REVERSE, copy.comparator());
+		assertEquals("c", copy.poll());
+		assertEquals("b", copy.poll());
+		assertEquals("a", copy.poll());
+	}
+
+	@Test
+	void clonePriorityBlockingQueueKeepsComparator() {
+		PriorityBlockingQueue<String> queue = new PriorityBlockingQueue<>(4, REVERSE);
+		queue.addAll(Arrays.asList("a", "c", "b"));
+		PriorityBlockingQueue<String> copy = ObjectCloner.clone(queue);
+		assertEquals(REVERSE, copy.comparator());
+		assertEquals("c", copy.poll());
+	}
+
+	@Test
+	void cloneConcurrentSkipListKeepsComparator() {
+		ConcurrentSkipListMap<String, Integer> map = new ConcurrentSkipListMap<>(REVERSE);
+		map.put("a", 1);
+		map.put("b", 2);
+		ConcurrentSkipListMap<String, Integer> mapCopy = ObjectCloner.clone(map);
+		mapCopy.put("c", 3);
+		assertEquals(Arrays.asList("c", "b", "a"), new ArrayList<>(mapCopy.keySet()));
+
+		ConcurrentSkipListSet<String> set = new ConcurrentSkipListSet<>(REVERSE);
+		set.addAll(Arrays.asList("a", "b"));
+		ConcurrentSkipListSet<String> setCopy = ObjectCloner.clone(set);
+		setCopy.add("c");
+		assertEquals(Arrays.asList("c", "b", "a"), new ArrayList<>(setCopy));
+	}
+
+	@Test
+	void cloneLinkedHashMapKeepsAccessOrder() {
+		LinkedHashMap<String, StringBuilder> map = new LinkedHashMap<>(16, 0.75f, true);
+		map.put("a", new StringBuilder("1"));
+		map.put("b", new StringBuilder("2"));
+		map.put("c", new StringBuilder("3"));
+		map.get("a");
+		LinkedHashMap<String, StringBuilder> copy = ObjectCloner.clone(map);
+		assertEquals(Arrays.asList("b", "c", "a"), new ArrayList<>(copy.keySet()));
+		assertNotSame(map.get("b"), copy.get("b"));
+		copy.get("b");
+		assertEquals(Arrays.asList("c", "a", "b"), new ArrayList<>(copy.keySet()));
+	}
+
+	@Test
+	void cloneLinkedHashMapKeepsInsertionOrder() {
+		Map<String, Integer> map = new LinkedHashMap<>();
+		map.put("c", 3);
+		map.put("a", 1);
+		map.put("b", 2);
+		Map<String, Integer> copy = ObjectCloner.clone(map);
+		copy.get("c");
+		assertEquals(Arrays.asList("c", "a", "b"), new ArrayList<>(copy.keySet()));
+	}
+
+	@Test
+	void cloneBean() {
+		Node node = new Node();
+		node.id = 7;
+		node.name = "root";
+		node.label = new StringBuilder("label");
+		node.children.add(new Node());
+		Node copy = ObjectCloner.clone(node);
+		assertNotSame(node, copy);
+		assertEquals(7, copy.id);
+		assertSame(node.name, copy.name);
+		assertNotSame(node.label, copy.label);
+		assertEquals("label", copy.label.toString());
+		assertNotSame(node.children, copy.children);
+		assertNotSame(node.children.get(0), copy.children.get(0));
+	}
+
+	@Test
+	void cloneBeanKeepsCycles() {
+		Node parent = new Node();
+		Node child = new Node();
+		parent.children.add(child);
+		child.parent = parent;
+		parent.parent = parent;
+		Node copy = ObjectCloner.clone(parent);
+		assertSame(copy, copy.parent);
+		assertSame(copy, copy.children.get(0).parent);
+		assertNotSame(parent, copy.children.get(0).parent);
+	}
+
+	@Test
+	void cloneBeanKeepsSharedReferences() {
+		StringBuilder shared = new StringBuilder("shared");
+		Pair pair = new Pair();
+		pair.left = shared;
+		pair.right = shared;
+		Pair copy = ObjectCloner.clone(pair);
+		assertNotSame(shared, copy.left);
+		assertSame(copy.left, copy.right);
+	}
+
+	@Test
+	void cloneSerializableBeanWithFinalField() {
+		FinalBean bean = new FinalBean(new ArrayList<>(Arrays.asList("a", "b")));
+		FinalBean copy = ObjectCloner.clone(bean);
+		assertNotSame(bean, copy);
+		assertNotSame(bean.values, copy.values);
+		assertEquals(bean.values, copy.values);
+	}
+
+	@Test
+	void cloneSharesUncopyableValues() {
+		Holder holder = new Holder();
+		holder.object = new Object();
+		holder.optional = Optional.of("value");
+		holder.opaque = new Opaque(new StringBuilder("opaque"));
+		Holder copy = ObjectCloner.clone(holder);
+		assertSame(holder.object, copy.object);
+		assertSame(holder.optional, copy.optional);
+		assertSame(holder.opaque, copy.opaque);
+	}
+
+	static class Node {
+
+		private int id;
+
+		private String name;
+
+		private StringBuilder label;
+
+		private Node parent;
+
+		private List<Node> children = new ArrayList<>();
+
+	}
+
+	static class Pair {
+
+		private StringBuilder left;
+
+		private StringBuilder right;
+
+	}
+
+	static class FinalBean implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final List<String> values;
+
+		FinalBean(List<String> values) {
+			this.values = values;
+		}
+
+	}
+
+	static class Opaque {
+
+		private final StringBuilder value;
+
+		Opaque(StringBuilder value) {
+			this.value = value;
+		}
+
+	}
+
+	static class Holder {
+
+		private Object object;
+
+		private Optional<String> optional;
+
+		private Opaque opaque;
+
+	}
+
+}
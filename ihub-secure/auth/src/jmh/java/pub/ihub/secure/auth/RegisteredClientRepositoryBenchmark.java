@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.auth;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static pub.ihub.secure.auth.CachedRegisteredClientRepository.registeredClientId;
+
+/**
+ * 注册客户端存储基准测试
+ * <p>
+ * JDBC（H2内存库）与文件快照两种存储，对比缓存命中、按ID查询及每次重新加载（缓存有效期为0）的吞吐
+ *
+ * @author henry
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RegisteredClientRepositoryBenchmark {
+
+	private static final int CLIENT_COUNT = 1000;
+
+	@Param({"jdbc", "file"})
+	public String store;
+
+	private final List<String> clientIds = new ArrayList<>(CLIENT_COUNT);
+
+	private Path file;
+
+	private CachedRegisteredClientRepository cached;
+
+	private CachedRegisteredClientRepository uncached;
+
+	@Setup
+	public void setup() throws Exception {
+		for (int i = 0; i < CLIENT_COUNT; i++) {
+			clientIds.add("client-" + i);
+		}
+		AuthServerProperties.ClientCache cache = new AuthServerProperties.ClientCache();
+		cache.setMaxSize(CLIENT_COUNT);
+		AuthServerProperties.ClientCache noCache = new AuthServerProperties.ClientCache();
+		noCache.setTtl(Duration.ZERO);
+		if ("jdbc".equals(store)) {
+			JdbcDataSource dataSource = new JdbcDataSource();
+			dataSource.setURL("jdbc:h2:mem:ihub-client;DB_CLOSE_DELAY=-1");
+			new ResourceDatabasePopulator(new ClassPathResource("pub/ihub/secure/auth/ihub-registered-client-schema.sql"))
+				.execute(dataSource);
+			JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+			jdbcTemplate.batchUpdate("INSERT INTO ihub_registered_client (id, client_id, client_secret, domain, scope) " +
+				"VALUES (?, ?, 'secret', 'http://localhost', 'read,write')", clientIds, clientIds.size(),
+				(ps, clientId) -> {
+					ps.setString(1, registeredClientId(clientId));
+					ps.setString(2, clientId);
+				});
+			cached = new JdbcRegisteredClientRepository(jdbcTemplate, cache);
+			uncached = new JdbcRegisteredClientRepository(jdbcTemplate, noCache);
+		} else {
+			file = Files.createTempFile("ihub-clients", ".properties");
+			StringBuilder content = new StringBuilder();
+			for (String clientId : clientIds) {
+				content.append(clientId).append(".secret=secret\n")
+					.append(clientId).append(".domain=http://localhost\n")
+					.append(clientId).append(".scope=read,write\n");
+			}
+			Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+			cached = new FileRegisteredClientRepository(file, Duration.ofSeconds(5), cache);
+			uncached = new FileRegisteredClientRepository(file, Duration.ofSeconds(5), noCache);
+		}
+		clientIds.forEach(cached::findByClientId);
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		if (null != file) {
+			((FileRegisteredClientRepository) cached).close();
+			((FileRegisteredClientRepository) uncached).close();
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Benchmark
+	public RegisteredClient findByClientId() {
+		return cached.findByClientId(randomClientId());
+	}
+
+	@Benchmark
+	public RegisteredClient findById() {
+		return cached.findById(registeredClientId(randomClientId()));
+	}
+
+	@Benchmark
+	public RegisteredClient load() {
+		return uncached.findByClientId(randomClientId());
+	}
+
+	private String randomClientId() {
+		return clientIds.get(ThreadLocalRandom.current().nextInt(CLIENT_COUNT));
+	}
+
+}
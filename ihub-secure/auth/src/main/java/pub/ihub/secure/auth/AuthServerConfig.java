@@ -17,19 +17,24 @@
 package pub.ihub.secure.auth;
 
 import com.alibaba.cloud.nacos.NacosConfigProperties;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.SneakyThrows;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.oauth2.server.authorization.JwtEncodingContext;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenCustomizer;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
 import org.springframework.security.oauth2.server.authorization.config.ProviderSettings;
 import org.springframework.security.provisioning.InMemoryUserDetailsManager;
@@ -37,12 +42,9 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-import java.security.KeyPair;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.nio.file.Paths;
 
-import static cn.hutool.core.lang.UUID.randomUUID;
-import static cn.hutool.crypto.SecureUtil.generateKeyPair;
+import static pub.ihub.secure.auth.AuthServerProperties.CLIENT_STORE_TYPE_PROPERTY;
 
 /**
  * 授权服务配置
@@ -50,6 +52,7 @@ import static cn.hutool.crypto.SecureUtil.generateKeyPair;
  * @author liheng
  */
 @EnableWebSecurity
+@EnableConfigurationProperties(AuthServerProperties.class)
 public class AuthServerConfig implements WebMvcConfigurer {
 
 	@Bean
@@ -64,18 +67,42 @@ public class AuthServerConfig implements WebMvcConfigurer {
 
 	@SneakyThrows
 	@Bean
-	public RegisteredClientRepository registeredClientRepository(NacosConfigProperties properties) {
-		return new NacosRegisteredClientRepository(properties);
+	@ConditionalOnProperty(name = CLIENT_STORE_TYPE_PROPERTY, havingValue = "nacos", matchIfMissing = true)
+	public RegisteredClientRepository registeredClientRepository(NacosConfigProperties properties,
+																 AuthServerProperties serverProperties) {
+		return new NacosRegisteredClientRepository(properties, serverProperties.getClientCache(),
+			serverProperties.getClientStore().getIndexDataId());
 	}
 
 	@Bean
-	public JWKSource<SecurityContext> jwkSource() {
-		KeyPair keyPair = generateKeyPair("RSA", 2048);
-		JWKSet jwkSet = new JWKSet(new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
-			.privateKey((RSAPrivateKey) keyPair.getPrivate())
-			.keyID(randomUUID().toString())
-			.build());
-		return (jwkSelector, securityContext) -> jwkSelector.select(jwkSet);
+	@ConditionalOnProperty(name = CLIENT_STORE_TYPE_PROPERTY, havingValue = "file")
+	public RegisteredClientRepository fileRegisteredClientRepository(AuthServerProperties serverProperties) {
+		AuthServerProperties.ClientStore store = serverProperties.getClientStore();
+		return new FileRegisteredClientRepository(Paths.get(store.getFile()), store.getCheckInterval(),
+			serverProperties.getClientCache());
+	}
+
+	@Bean
+	RegisteredClientWarmUp registeredClientWarmUp(RegisteredClientRepository registeredClientRepository,
+												  AuthServerProperties serverProperties,
+												  ObjectProvider<MeterRegistry> meterRegistry) {
+		return new RegisteredClientWarmUp(registeredClientRepository, serverProperties.getClientCache(),
+			meterRegistry.getIfAvailable());
+	}
+
+	@Bean
+	public JwkKeyRing jwkSource(AuthServerProperties serverProperties,
+								ObjectProvider<NacosConfigProperties> nacosProperties) {
+		AuthServerProperties.KeyRing keyRing = serverProperties.getKeyRing();
+		JwkKeyStore store = AuthServerProperties.KeyStoreType.NACOS == keyRing.getStore() ?
+			new NacosJwkKeyStore(nacosProperties.getObject(), keyRing.getDataId()) :
+			new FileJwkKeyStore(Paths.get(keyRing.getFile()));
+		return new JwkKeyRing(store, keyRing);
+	}
+
+	@Bean
+	OAuth2TokenCustomizer<JwtEncodingContext> jwkKeyRingCustomizer(JwkKeyRing jwkSource) {
+		return context -> jwkSource.customize(context.getHeaders());
 	}
 
 	@Bean
@@ -101,4 +128,20 @@ public class AuthServerConfig implements WebMvcConfigurer {
 			.build());
 	}
 
+	/**
+	 * JDBC注册客户端存储
+	 */
+	@Configuration
+	@ConditionalOnClass(JdbcOperations.class)
+	@ConditionalOnProperty(name = CLIENT_STORE_TYPE_PROPERTY, havingValue = "jdbc")
+	static class JdbcClientStoreConfiguration {
+
+		@Bean
+		public RegisteredClientRepository jdbcRegisteredClientRepository(JdbcOperations jdbcOperations,
+																		 AuthServerProperties serverProperties) {
+			return new JdbcRegisteredClientRepository(jdbcOperations, serverProperties.getClientCache());
+		}
+
+	}
+
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.auth;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static pub.ihub.secure.core.Constant.SECURE_PROPERTIES_PREFIX;
+
+/**
+ * 授权服务配置属性
+ *
+ * @author henry
+ */
+@Data
+@ConfigurationProperties(SECURE_PROPERTIES_PREFIX + ".server")
+public class AuthServerProperties {
+
+	/**
+	 * 注册客户端存储类型属性
+	 */
+	public static final String CLIENT_STORE_TYPE_PROPERTY = SECURE_PROPERTIES_PREFIX + ".server.client-store.type";
+	/**
+	 * 密钥环私钥加密密钥属性
+	 */
+	public static final String KEY_RING_SECRET_PROPERTY = SECURE_PROPERTIES_PREFIX + ".server.key-ring.secret";
+
+	/**
+	 * 注册客户端存储
+	 */
+	private final ClientStore clientStore = new ClientStore();
+	/**
+	 * 注册客户端缓存
+	 */
+	private final ClientCache clientCache = new ClientCache();
+	/**
+	 * JWK密钥环
+	 */
+	private final KeyRing keyRing = new KeyRing();
+
+	@Data
+	public static class ClientStore {
+
+		/**
+		 * 存储类型，默认：nacos
+		 */
+		private StoreType type = StoreType.NACOS;
+		/**
+		 * 文件快照路径（type=file）
+		 */
+		private String file;
+		/**
+		 * 文件快照变更检查间隔，默认：5秒
+		 */
+		private Duration checkInterval = Duration.ofSeconds(5);
+		/**
+		 * 客户端ID索引的Nacos配置ID（type=nacos），内容为全部客户端ID（逗号或换行分隔），
+		 * 用于重启后按ID查询未加载的客户端及预热模式匹配，默认：ihub-registered-clients
+		 */
+		private String indexDataId = "ihub-registered-clients";
+
+	}
+
+	@Data
+	public static class ClientCache {
+
+		/**
+		 * 缓存有效期，配置变更推送丢失时按有效期重新加载，默认：10分钟
+		 */
+		private Duration ttl = Duration.ofMinutes(10);
+		/**
+		 * 最大缓存客户端数量，默认：1000
+		 */
+		private int maxSize = 1000;
+		/**
+		 * 不存在的客户端缓存有效期，不超过ttl，默认：30秒
+		 */
+		private Duration negativeTtl = Duration.ofSeconds(30);
+		/**
+		 * 最大缓存不存在的客户端数量，与maxSize分别计数，默认：100
+		 */
+		private int negativeMaxSize = 100;
+		/**
+		 * 启动时预加载的客户端ID，含“*”的为模式（如app-*），与存储库列出的客户端ID匹配；
+		 * 文件存储列出全部客户端，Nacos存储按客户端ID索引配置（client-store.index-data-id）列出，JDBC存储不支持模式
+		 */
+		private Set<String> preload = new LinkedHashSet<>();
+		/**
+		 * 预加载并行数，默认：4
+		 */
+		private int preloadParallelism = 4;
+		/**
+		 * 预加载超时时间，默认：30秒
+		 */
+		private Duration preloadTimeout = Duration.ofSeconds(30);
+
+	}
+
+	@Data
+	public static class KeyRing {
+
+		/**
+		 * 密钥环存储，默认：file
+		 */
+		private KeyStoreType store = KeyStoreType.FILE;
+		/**
+		 * 本地密钥环文件（store=file），默认：~/.ihub/jwks.json
+		 */
+		private String file = System.getProperty("user.home") + "/.ihub/jwks.json";
+		/**
+		 * Nacos配置ID（store=nacos），默认：ihub-jwks.json
+		 */
+		private String dataId = "ihub-jwks.json";
+		/**
+		 * 私钥加密密钥（AES-256-GCM，建议32位以上随机字符），私钥加密后写入存储；
+		 * store=nacos时必填，避免私钥以明文保存在共享配置中；store=file未配置时私钥以明文保存
+		 */
+		private String secret;
+		/**
+		 * 密钥类型，默认：RSA；EC（P-256）签名更快，资源服务须配置jws-algorithm为ES256
+		 */
+		private KeyType keyType = KeyType.RSA;
+		/**
+		 * RSA密钥长度，默认：2048
+		 */
+		private int rsaKeySize = 2048;
+		/**
+		 * 轮换周期，默认：30天
+		 */
+		private Duration rotationPeriod = Duration.ofDays(30);
+		/**
+		 * 重叠期，新密钥提前发布及旧密钥保留的时长，须不小于令牌有效期，默认：1天
+		 */
+		private Duration overlap = Duration.ofDays(1);
+		/**
+		 * 轮换检查间隔，默认：1小时
+		 */
+		private Duration checkInterval = Duration.ofHours(1);
+
+	}
+
+	/**
+	 * 注册客户端存储类型
+	 */
+	public enum StoreType {
+		/**
+		 * Nacos配置
+		 */
+		NACOS,
+		/**
+		 * JDBC（表结构见{@link JdbcRegisteredClientRepository#SCHEMA_LOCATION}）
+		 */
+		JDBC,
+		/**
+		 * 文件快照
+		 */
+		FILE
+	}
+
+	/**
+	 * 密钥环存储类型
+	 */
+	public enum KeyStoreType {
+		/**
+		 * 本地文件
+		 */
+		FILE,
+		/**
+		 * Nacos配置，多节点共享
+		 */
+		NACOS
+	}
+
+	/**
+	 * 密钥类型
+	 */
+	public enum KeyType {
+		/**
+		 * RSA（RS256）
+		 */
+		RSA,
+		/**
+		 * EC P-256（ES256）
+		 */
+		EC
+	}
+
+}
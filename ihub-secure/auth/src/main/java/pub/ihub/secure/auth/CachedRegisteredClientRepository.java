@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.auth;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * 带本地缓存的注册客户端存储库
+ * <p>
+ * 按客户端ID缓存解析后的注册客户端，缓存过期后重新加载，加载失败时沿用过期缓存；
+ * 不存在的客户端单独计数，使用较短的有效期及较小的容量，避免无效客户端ID挤占缓存；
+ * 读取不加锁，同一客户端的并发加载合并为一次，超出容量时在加载后批量淘汰最久未访问的客户端（近似LRU）；
+ * 数据源变更时由子类调用{@link #refresh(String, RegisteredClient)}推送更新，缓存移除时回调{@link #onEvict(String)}。
+ * 注册客户端ID由客户端ID确定性生成（{@link #registeredClientId(String)}），
+ * 并维护ID到客户端ID的索引，已加载过的客户端可直接按ID查询，索引未命中时按{@link #loadClientIds()}补全索引
+ *
+ * @author henry
+ */
+public abstract class CachedRegisteredClientRepository implements RegisteredClientRepository {
+
+	private static final Log LOG = LogFactory.getLog(CachedRegisteredClientRepository.class);
+
+	/**
+	 * 客户端缓存（含不存在的客户端）
+	 */
+	private final Map<String, CachedClient> clients = new ConcurrentHashMap<>();
+
+	/**
+	 * 加载中的客户端，并发加载同一客户端时等待同一结果
+	 */
+	private final Map<String, CompletableFuture<CachedClient>> loading = new ConcurrentHashMap<>();
+
+	/**
+	 * 注册客户端ID -> 客户端ID，缓存淘汰时保留
+	 */
+	private final Map<String, String> clientIdIndex = new ConcurrentHashMap<>();
+
+	/**
+	 * 已缓存的存在/不存在的客户端数量，随缓存条目原子更新
+	 */
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final AtomicInteger negativeSize = new AtomicInteger();
+
+	/**
+	 * 同一时刻只有一个线程执行淘汰
+	 */
+	private final AtomicBoolean trimming = new AtomicBoolean();
+
+	private final long ttl;
+
+	private final int maxSize;
+
+	private final long negativeTtl;
+
+	private final int negativeMaxSize;
+
+	protected CachedRegisteredClientRepository(AuthServerProperties.ClientCache cache) {
+		ttl = cache.getTtl().toNanos();
+		maxSize = cache.getMaxSize();
+		negativeTtl = Math.min(ttl, cache.getNegativeTtl().toNanos());
+		negativeMaxSize = cache.getNegativeMaxSize();
+	}
+
+	/**
+	 * 由客户端ID生成注册客户端ID，同一客户端ID始终生成相同ID
+	 *
+	 * @param clientId 客户端ID
+	 * @return 注册客户端ID
+	 */
+	public static String registeredClientId(String clientId) {
+		return UUID.nameUUIDFromBytes(clientId.getBytes(StandardCharsets.UTF_8)).toString();
+	}
+
+	@Override
+	public RegisteredClient findById(String id) {
+		String clientId = clientIdIndex.get(id);
+		if (null == clientId) {
+			clientId = indexClientIds(id);
+		}
+		return null == clientId ? null : findByClientId(clientId);
+	}
+
+	@Override
+	public RegisteredClient findByClientId(String clientId) {
+		CachedClient cached = clients.get(clientId);
+		if (null == cached || cached.isExpired()) {
+			cached = load(clientId, cached);
+		}
+		cached.lastAccess = System.nanoTime();
+		return cached.client;
+	}
+
+	/**
+	 * 从数据源加载注册客户端
+	 *
+	 * @param clientId 客户端ID
+	 * @return 注册客户端，不存在时返回null
+	 */
+	protected abstract RegisteredClient loadClient(String clientId);
+
+	/**
+	 * 列出数据源中的客户端ID，ID索引未命中（如重启后客户端尚未加载）时据此补全索引
+	 *
+	 * @return 客户端ID，默认无
+	 */
+	protected Collection<String> loadClientIds() {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * 数据源变更时更新缓存（仅更新已缓存的客户端）
+	 *
+	 * @param clientId 客户端ID
+	 * @param client   注册客户端，已删除时为null
+	 */
+	protected void refresh(String clientId, RegisteredClient client) {
+		if (null != clients.computeIfPresent(clientId, (key, previous) -> replace(key, previous, cache(client)))) {
+			trim();
+		}
+	}
+
+	/**
+	 * 移除缓存
+	 *
+	 * @param clientId 客户端ID
+	 */
+	protected void evict(String clientId) {
+		CachedClient cached = clients.get(clientId);
+		if (null != cached && remove(clientId, cached)) {
+			onEvict(clientId);
+		}
+	}
+
+	/**
+	 * 客户端移出缓存（主动移除或容量淘汰）后回调，子类可释放该客户端关联的资源
+	 *
+	 * @param clientId 客户端ID
+	 */
+	protected void onEvict(String clientId) {
+	}
+
+	private CachedClient load(String clientId, CachedClient stale) {
+		CompletableFuture<CachedClient> future = new CompletableFuture<>();
+		CompletableFuture<CachedClient> inFlight = loading.putIfAbsent(clientId, future);
+		if (null != inFlight) {
+			try {
+				return inFlight.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
+		}
+		try {
+			CachedClient loaded = doLoad(clientId, stale);
+			future.complete(loaded);
+			return loaded;
+		} catch (Throwable e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			loading.remove(clientId, future);
+		}
+	}
+
+	private CachedClient doLoad(String clientId, CachedClient stale) {
+		CachedClient current = clients.get(clientId);
+		if (null != current && current != stale && !current.isExpired()) {
+			// 其他线程已加载
+			return current;
+		}
+		CachedClient loaded;
+		try {
+			loaded = cache(loadClient(clientId));
+		} catch (Exception e) {
+			if (null == current) {
+				throw e;
+			}
+			LOG.warn("注册客户端加载失败，沿用缓存：" + clientId + "，" + e);
+			loaded = cache(current.client);
+		}
+		// 加载期间已由变更推送更新时以推送为准
+		CachedClient result = loaded;
+		CachedClient cached = clients.compute(clientId, (key, latest) ->
+			null != latest && latest != current ? latest : replace(key, latest, result));
+		if (cached == result) {
+			trim();
+		}
+		return cached;
+	}
+
+	private CachedClient cache(RegisteredClient client) {
+		return new CachedClient(client, null == client ? negativeTtl : ttl);
+	}
+
+	/**
+	 * 在缓存条目的原子更新中维护索引及计数
+	 */
+	private CachedClient replace(String clientId, CachedClient previous, CachedClient cached) {
+		if (null != previous) {
+			counter(previous).decrementAndGet();
+		}
+		counter(cached).incrementAndGet();
+		return index(clientId, previous, cached);
+	}
+
+	private boolean remove(String clientId, CachedClient cached) {
+		boolean[] removed = {false};
+		clients.computeIfPresent(clientId, (key, current) -> {
+			if (current != cached) {
+				return current;
+			}
+			counter(current).decrementAndGet();
+			removed[0] = true;
+			return null;
+		});
+		return removed[0];
+	}
+
+	private AtomicInteger counter(CachedClient cached) {
+		return null == cached.client ? negativeSize : size;
+	}
+
+	/**
+	 * 超出容量时淘汰最久未访问的客户端，在读取路径之外执行
+	 */
+	private void trim() {
+		if (size.get() <= maxSize && negativeSize.get() <= negativeMaxSize || !trimming.compareAndSet(false, true)) {
+			return;
+		}
+		List<String> evicted = new ArrayList<>();
+		try {
+			trim(false, size.get() - maxSize, evicted);
+			trim(true, negativeSize.get() - negativeMaxSize, evicted);
+		} finally {
+			trimming.set(false);
+		}
+		evicted.forEach(this::onEvict);
+	}
+
+	private void trim(boolean negative, int excess, List<String> evicted) {
+		if (excess <= 0) {
+			return;
+		}
+		// 批量淘汰至容量的90%，摊薄扫描开销；访问时间取快照排序，避免排序期间被并发修改
+		int bound = negative ? negativeMaxSize : maxSize;
+		List<Map.Entry<Long, Map.Entry<String, CachedClient>>> eldest = clients.entrySet().stream()
+			.filter(entry -> negative == (null == entry.getValue().client))
+			.map(entry -> Map.entry(entry.getValue().lastAccess, entry))
+			.sorted(Map.Entry.comparingByKey())
+			.limit(excess + bound / 10)
+			.collect(toList());
+		for (Map.Entry<Long, Map.Entry<String, CachedClient>> entry : eldest) {
+			String clientId = entry.getValue().getKey();
+			if (remove(clientId, entry.getValue().getValue())) {
+				evicted.add(clientId);
+			}
+		}
+	}
+
+	private String indexClientIds(String id) {
+		String found = null;
+		for (String clientId : loadClientIds()) {
+			String registeredClientId = registeredClientId(clientId);
+			clientIdIndex.putIfAbsent(registeredClientId, clientId);
+			if (registeredClientId.equals(id)) {
+				found = clientId;
+			}
+		}
+		return found;
+	}
+
+	private CachedClient index(String clientId, CachedClient previous, CachedClient cached) {
+		if (null != previous && null != previous.client && (null == cached.client ||
+			!previous.client.getId().equals(cached.client.getId()))) {
+			clientIdIndex.remove(previous.client.getId(), clientId);
+		}
+		if (null != cached.client) {
+			clientIdIndex.put(cached.client.getId(), clientId);
+		}
+		return cached;
+	}
+
+	private static final class CachedClient {
+
+		private final RegisteredClient client;
+
+		private final long loadedAt = System.nanoTime();
+
+		private final long ttl;
+
+		/**
+		 * 最近访问时间，读取时更新，淘汰时据此近似LRU
+		 */
+		private volatile long lastAccess = loadedAt;
+
+		private CachedClient(RegisteredClient client, long ttl) {
+			this.client = client;
+			this.ttl = ttl;
+		}
+
+		private boolean isExpired() {
+			return System.nanoTime() - loadedAt > ttl;
+		}
+
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.auth;
+
+import lombok.SneakyThrows;
+
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Objects;
+
+/**
+ * 本地文件密钥环存储
+ * <p>
+ * 先写临时文件再原子替换，支持POSIX的文件系统上仅所有者可读写；
+ * 保存时持有锁文件的文件锁比较当前内容，共享目录的多个进程不会互相覆盖
+ *
+ * @author henry
+ */
+public class FileJwkKeyStore implements JwkKeyStore {
+
+	private final Path file;
+
+	public FileJwkKeyStore(Path file) {
+		this.file = file;
+	}
+
+	@SneakyThrows
+	@Override
+	public String load() {
+		return Files.exists(file) ? new String(Files.readAllBytes(file), StandardCharsets.UTF_8) : null;
+	}
+
+	@SneakyThrows
+	@Override
+	public synchronized boolean save(String content, String expected) {
+		Path dir = file.toAbsolutePath().getParent();
+		Files.createDirectories(dir);
+		try (FileChannel lock = FileChannel.open(dir.resolve(file.getFileName() + ".lock"),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE); FileLock ignored = lock.lock()) {
+			if (!Objects.equals(load(), expected)) {
+				return false;
+			}
+			Path temp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+			try {
+				if (dir.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+					Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+				}
+				Files.write(temp, content.getBytes(StandardCharsets.UTF_8));
+				Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.auth;
+
+import lombok.SneakyThrows;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_PREFIX;
+
+/**
+ * 文件快照注册客户端存储库
+ * <p>
+ * 快照为properties格式，键为"客户端ID.属性名"（属性名同ihub.secure.client.*，如：ihub-oidc.secret）；
+ * 文件按UTF-8流式读取，读取后即关闭；按检查间隔比较修改时间，变更后重新加载并更新缓存中变化的客户端
+ *
+ * @author henry
+ */
+public class FileRegisteredClientRepository extends CachedRegisteredClientRepository implements AutoCloseable {
+
+	private static final Log LOG = LogFactory.getLog(FileRegisteredClientRepository.class);
+
+	private final Path file;
+
+	private final ScheduledExecutorService watcher;
+
+	private volatile Snapshot snapshot;
+
+	public FileRegisteredClientRepository(Path file, Duration checkInterval, AuthServerProperties.ClientCache cache) {
+		super(cache);
+		this.file = file;
+		snapshot = read(file);
+		watcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "ihub-client-file-watcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = checkInterval.toMillis();
+		watcher.scheduleWithFixedDelay(this::reloadIfModified, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	protected RegisteredClient loadClient(String clientId) {
+		Map<String, String> source = snapshot.clients.get(clientId);
+		return null == source ? null : RegisteredClientParser.parse(clientId, source);
+	}
+
+	@Override
+	protected Collection<String> loadClientIds() {
+		return snapshot.clients.keySet();
+	}
+
+	@Override
+	public void close() {
+		watcher.shutdownNow();
+	}
+
+	private void reloadIfModified() {
+		try {
+			if (Files.getLastModifiedTime(file).toMillis() == snapshot.lastModified) {
+				return;
+			}
+			Snapshot previous = snapshot;
+			snapshot = read(file);
+			Set<String> clientIds = new HashSet<>(previous.clients.keySet());
+			clientIds.addAll(snapshot.clients.keySet());
+			for (String clientId : clientIds) {
+				Map<String, String> source = snapshot.clients.get(clientId);
+				if (!Objects.equals(previous.clients.get(clientId), source)) {
+					refresh(clientId, null == source ? null : RegisteredClientParser.parse(clientId, source));
+				}
+			}
+		} catch (Exception e) {
+			LOG.warn("注册客户端文件加载失败：" + file + "，" + e);
+		}
+	}
+
+	@SneakyThrows
+	private static Snapshot read(Path file) {
+		long lastModified = Files.getLastModifiedTime(file).toMillis();
+		Properties properties = new Properties();
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+		Map<String, Map<String, String>> clients = new HashMap<>(16);
+		for (String key : properties.stringPropertyNames()) {
+			int index = key.lastIndexOf('.');
+			if (index > 0) {
+				clients.computeIfAbsent(key.substring(0, index), clientId -> new HashMap<>(8))
+					.put(SECURE_CLIENT_PROPERTIES_PREFIX + key.substring(index), properties.getProperty(key));
+			}
+		}
+		return new Snapshot(lastModified, Collections.unmodifiableMap(clients));
+	}
+
+	private static final class Snapshot {
+
+		private final long lastModified;
+
+		private final Map<String, Map<String, String>> clients;
+
+		private Snapshot(long lastModified, Map<String, Map<String, String>> clients) {
+			this.lastModified = lastModified;
+			this.clients = clients;
+		}
+
+	}
+
+}
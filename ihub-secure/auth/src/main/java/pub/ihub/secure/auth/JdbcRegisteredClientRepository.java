@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.auth;
+
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_DOMAIN;
+import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_REQUIRE_PROOF_KEY;
+import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_REQUIRE_USER_CONSENT;
+import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_SCOPE;
+import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_SECRET;
+
+/**
+ * JDBC注册客户端存储库
+ * <p>
+ * 表结构见{@value #SCHEMA_LOCATION}，id、client_id均有索引；id须为{@link #registeredClientId(String)}生成的值
+ *
+ * @author henry
+ */
+public class JdbcRegisteredClientRepository extends CachedRegisteredClientRepository {
+
+	/**
+	 * 表结构脚本
+	 */
+	public static final String SCHEMA_LOCATION = "classpath:pub/ihub/secure/auth/ihub-registered-client-schema.sql";
+
+	private static final String SELECT_BY_CLIENT_ID = "SELECT client_secret, domain, scope, require_proof_key, " +
+		"require_user_consent FROM ihub_registered_client WHERE client_id = ?";
+
+	private static final String SELECT_CLIENT_ID_BY_ID = "SELECT client_id FROM ihub_registered_client WHERE id = ?";
+
+	private static final RowMapper<Map<String, Object>> SOURCE_MAPPER = (rs, rowNum) -> {
+		Map<String, Object> source = new HashMap<>(8);
+		source.put(SECURE_CLIENT_PROPERTIES_SECRET, rs.getString("client_secret"));
+		source.put(SECURE_CLIENT_PROPERTIES_DOMAIN, rs.getString("domain"));
+		source.put(SECURE_CLIENT_PROPERTIES_SCOPE, rs.getString("scope"));
+		source.put(SECURE_CLIENT_PROPERTIES_REQUIRE_PROOF_KEY, rs.getBoolean("require_proof_key"));
+		source.put(SECURE_CLIENT_PROPERTIES_REQUIRE_USER_CONSENT, rs.getBoolean("require_user_consent"));
+		return source;
+	};
+
+	private final JdbcOperations jdbcOperations;
+
+	public JdbcRegisteredClientRepository(JdbcOperations jdbcOperations, AuthServerProperties.ClientCache cache) {
+		super(cache);
+		this.jdbcOperations = jdbcOperations;
+	}
+
+	@Override
+	public RegisteredClient findById(String id) {
+		RegisteredClient client = super.findById(id);
+		if (null != client) {
+			return client;
+		}
+		// 索引未命中（如重启后尚未加载），按id列查询客户端ID
+		List<String> clientIds = jdbcOperations.queryForList(SELECT_CLIENT_ID_BY_ID, String.class, id);
+		return clientIds.isEmpty() ? null : findByClientId(clientIds.get(0));
+	}
+
+	@Override
+	protected RegisteredClient loadClient(String clientId) {
+		List<Map<String, Object>> sources = jdbcOperations.query(SELECT_BY_CLIENT_ID, SOURCE_MAPPER, clientId);
+		return sources.isEmpty() ? null : RegisteredClientParser.parse(clientId, sources.get(0));
+	}
+
+}
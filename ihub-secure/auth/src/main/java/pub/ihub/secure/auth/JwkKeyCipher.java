@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.auth;
+
+import lombok.SneakyThrows;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 密钥环私钥加密（AES-256-GCM）
+ * <p>
+ * 加密密钥由配置的密钥经SHA-256派生，密文格式为Base64(IV + 密文)，以kid作附加认证数据，密文不能挪用到其他密钥
+ *
+ * @author henry
+ */
+final class JwkKeyCipher {
+
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+	private static final int IV_LENGTH = 12;
+
+	private static final int TAG_LENGTH = 128;
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private final SecretKey key;
+
+	@SneakyThrows
+	JwkKeyCipher(String secret) {
+		key = new SecretKeySpec(MessageDigest.getInstance("SHA-256")
+			.digest(secret.getBytes(StandardCharsets.UTF_8)), "AES");
+	}
+
+	@SneakyThrows
+	String encrypt(String keyId, String plaintext) {
+		byte[] iv = new byte[IV_LENGTH];
+		RANDOM.nextBytes(iv);
+		byte[] encrypted = cipher(Cipher.ENCRYPT_MODE, keyId, iv).doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+		return Base64.getEncoder().encodeToString(ByteBuffer.allocate(IV_LENGTH + encrypted.length)
+			.put(iv).put(encrypted).array());
+	}
+
+	@SneakyThrows
+	String decrypt(String keyId, String ciphertext) {
+		byte[] bytes = Base64.getDecoder().decode(ciphertext);
+		return new String(cipher(Cipher.DECRYPT_MODE, keyId, Arrays.copyOf(bytes, IV_LENGTH))
+			.doFinal(bytes, IV_LENGTH, bytes.length - IV_LENGTH), StandardCharsets.UTF_8);
+	}
+
+	@SneakyThrows
+	private Cipher cipher(int mode, String keyId, byte[] iv) {
+		Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+		cipher.init(mode, key, new GCMParameterSpec(TAG_LENGTH, iv));
+		cipher.updateAAD(keyId.getBytes(StandardCharsets.UTF_8));
+		return cipher;
+	}
+
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.auth;
+
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import lombok.SneakyThrows;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JoseHeader;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+import static pub.ihub.secure.auth.AuthServerProperties.KEY_RING_SECRET_PROPERTY;
+
+/**
+ * JWK密钥环
+ * <p>
+ * 密钥持久化到{@link JwkKeyStore}，重启及多节点复用同一密钥；配置私钥加密密钥时私钥加密后保存（{@link JwkKeyCipher}），
+ * 共享存储（Nacos）必须配置，本地文件未配置时私钥以明文保存（文件仅所有者可读写）；按轮换周期生成新密钥，
+ * 新密钥先发布（重叠期内资源服务可提前获取），重叠期后才用于签名，旧密钥在重叠期后移除。
+ * {@link JWKSet}仅在轮换时重建；签名选择（按算法或用途匹配）只返回当前签名密钥，
+ * NimbusJwsEncoder按算法选择密钥、忽略kid，匹配到多个密钥时签名失败；JWK Set端点（空匹配条件）返回全部已发布密钥
+ *
+ * @author henry
+ */
+public class JwkKeyRing implements JWKSource<SecurityContext>, AutoCloseable {
+
+	private static final Log LOG = LogFactory.getLog(JwkKeyRing.class);
+
+	private static final String KEYS = "jwks";
+
+	private static final String ACTIVE_AT = "activeAt";
+
+	private static final String PRIVATE_KEYS = "privateKeys";
+
+	private static final int MAX_SAVE_ATTEMPTS = 3;
+
+	private final JwkKeyStore store;
+
+	private final AuthServerProperties.KeyRing properties;
+
+	private final JwkKeyCipher cipher;
+
+	private final ScheduledExecutorService scheduler;
+
+	private volatile Ring ring;
+
+	public JwkKeyRing(JwkKeyStore store, AuthServerProperties.KeyRing properties) {
+		this.store = store;
+		this.properties = properties;
+		String secret = properties.getSecret();
+		if (null == secret || secret.isEmpty()) {
+			if (AuthServerProperties.KeyStoreType.NACOS == properties.getStore()) {
+				throw new IllegalStateException("共享密钥环须配置私钥加密密钥：" + KEY_RING_SECRET_PROPERTY);
+			}
+			cipher = null;
+		} else {
+			cipher = new JwkKeyCipher(secret);
+		}
+		rotate();
+		store.addListener(this::reload);
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "ihub-jwk-key-ring");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = properties.getCheckInterval().toMillis();
+		scheduler.scheduleWithFixedDelay(() -> {
+			try {
+				rotate();
+			} catch (Exception e) {
+				LOG.warn("密钥环轮换失败：" + e);
+			}
+		}, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+		Ring current = ring;
+		return jwkSelector.select(isSigningLookup(jwkSelector.getMatcher()) ? current.signingSet : current.jwkSet);
+	}
+
+	/**
+	 * 设置JWS头，使用当前签名密钥
+	 *
+	 * @param headers JWS头
+	 */
+	public void customize(JoseHeader.Builder headers) {
+		Entry active = ring.active;
+		headers.keyId(active.jwk.getKeyID())
+			.jwsAlgorithm(SignatureAlgorithm.from(active.jwk.getAlgorithm().getName()));
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	/**
+	 * 其他节点修改密钥环后重新加载，与轮换互斥，空密钥环不替换当前密钥环
+	 */
+	private synchronized void reload() {
+		try {
+			Ring reloaded = Ring.parse(store.load(), cipher);
+			if (reloaded.entries.isEmpty()) {
+				LOG.warn("密钥环为空，保留当前密钥环");
+				return;
+			}
+			ring = reloaded;
+		} catch (Exception e) {
+			LOG.warn("密钥环重新加载失败：" + e);
+		}
+	}
+
+	/**
+	 * 读取存储中的密钥环（可能已被其他节点轮换），按需生成新密钥、移除过期密钥；
+	 * 保存时存储已被其他节点修改则重新读取，采用其结果后再判断是否需要轮换
+	 */
+	private synchronized void rotate() {
+		for (int attempt = 1; ; attempt++) {
+			String content = store.load();
+			long now = System.currentTimeMillis();
+			long overlap = properties.getOverlap().toMillis();
+			List<Entry> entries = new ArrayList<>(Ring.parse(content, cipher).entries);
+			boolean changed = false;
+			if (entries.isEmpty()) {
+				entries.add(new Entry(generate(), now));
+				changed = true;
+			}
+			Entry newest = entries.get(entries.size() - 1);
+			if (newest.activeAt <= now && newest.activeAt + properties.getRotationPeriod().toMillis() - overlap <= now) {
+				// 提前一个重叠期发布新密钥
+				entries.add(new Entry(generate(), now + overlap));
+				changed = true;
+			}
+			Entry active = Ring.active(entries, now);
+			// 被替换超过重叠期的密钥签发的令牌均已过期
+			changed |= entries.removeIf(entry -> entry.activeAt < active.activeAt && entries.stream()
+				.anyMatch(next -> next.activeAt > entry.activeAt && next.activeAt + overlap <= now));
+			Ring rotated = new Ring(entries, now);
+			if (!changed) {
+				ring = rotated;
+				return;
+			}
+			if (store.save(rotated.toJson(cipher), content)) {
+				ring = rotated;
+				LOG.info("密钥环已更新，当前签名密钥：" + rotated.active.jwk.getKeyID());
+				return;
+			}
+			if (attempt >= MAX_SAVE_ATTEMPTS) {
+				throw new IllegalStateException("密钥环保存冲突，已重试" + attempt + "次");
+			}
+			LOG.info("密钥环已被其他节点修改，重新读取");
+		}
+	}
+
+	private static boolean isSigningLookup(JWKMatcher matcher) {
+		return null != matcher.getAlgorithms() && !matcher.getAlgorithms().isEmpty() ||
+			null != matcher.getKeyUses() && !matcher.getKeyUses().isEmpty();
+	}
+
+	@SneakyThrows
+	private JWK generate() {
+		String keyId = UUID.randomUUID().toString();
+		if (AuthServerProperties.KeyType.EC == properties.getKeyType()) {
+			return new ECKeyGenerator(Curve.P_256).keyID(keyId).keyUse(KeyUse.SIGNATURE)
+				.algorithm(JWSAlgorithm.ES256).generate();
+		}
+		return new RSAKeyGenerator(properties.getRsaKeySize()).keyID(keyId).keyUse(KeyUse.SIGNATURE)
+			.algorithm(JWSAlgorithm.RS256).generate();
+	}
+
+	private static final class Entry {
+
+		private final JWK jwk;
+
+		private final long activeAt;
+
+		private Entry(JWK jwk, long activeAt) {
+			this.jwk = jwk;
+			this.activeAt = activeAt;
+		}
+
+	}
+
+	private static final class Ring {
+
+		private final List<Entry> entries;
+
+		private final JWKSet jwkSet;
+
+		/**
+		 * 仅含当前签名密钥
+		 */
+		private final JWKSet signingSet;
+
+		private final Entry active;
+
+		private Ring(List<Entry> entries, long now) {
+			entries.sort(Comparator.comparingLong(entry -> entry.activeAt));
+			this.entries = entries;
+			jwkSet = new JWKSet(entries.stream().map(entry -> entry.jwk).collect(toList()));
+			active = entries.isEmpty() ? null : active(entries, now);
+			signingSet = null == active ? jwkSet : new JWKSet(active.jwk);
+		}
+
+		private static Entry active(List<Entry> entries, long now) {
+			Entry active = entries.get(0);
+			for (Entry entry : entries) {
+				if (entry.activeAt <= now) {
+					active = entry;
+				}
+			}
+			return active;
+		}
+
+		/**
+		 * 解析密钥环，私钥已加密时（含privateKeys）解密，兼容未加密的密钥环
+		 */
+		@SneakyThrows
+		private static Ring parse(String content, JwkKeyCipher cipher) {
+			List<Entry> entries = new ArrayList<>();
+			if (null != content && !content.isEmpty()) {
+				JSONObject json = JSONUtil.parseObj(content);
+				JSONObject activeAt = json.getJSONObject(ACTIVE_AT);
+				JSONObject privateKeys = json.getJSONObject(PRIVATE_KEYS);
+				if (null != privateKeys && null == cipher) {
+					throw new IllegalStateException("密钥环私钥已加密，须配置私钥加密密钥：" + KEY_RING_SECRET_PROPERTY);
+				}
+				for (JWK jwk : JWKSet.parse(json.getJSONObject(KEYS).toString()).getKeys()) {
+					String keyId = jwk.getKeyID();
+					if (null != privateKeys) {
+						String privateKey = privateKeys.getStr(keyId);
+						if (null == privateKey) {
+							throw new IllegalStateException("密钥环缺少私钥：" + keyId);
+						}
+						jwk = JWK.parse(cipher.decrypt(keyId, privateKey));
+					}
+					entries.add(new Entry(jwk, activeAt.getLong(keyId, 0L)));
+				}
+			}
+			return new Ring(entries, System.currentTimeMillis());
+		}
+
+		/**
+		 * 序列化密钥环，配置加密时公钥明文保存，私钥加密后按kid保存在privateKeys中
+		 */
+		private String toJson(JwkKeyCipher cipher) {
+			JSONObject activeAt = new JSONObject();
+			entries.forEach(entry -> activeAt.set(entry.jwk.getKeyID(), entry.activeAt));
+			JSONObject json = new JSONObject().set(KEYS, JSONUtil.parseObj(jwkSet.toString(null != cipher)));
+			if (null != cipher) {
+				JSONObject privateKeys = new JSONObject();
+				entries.forEach(entry -> privateKeys.set(entry.jwk.getKeyID(),
+					cipher.encrypt(entry.jwk.getKeyID(), entry.jwk.toJSONString())));
+				json.set(PRIVATE_KEYS, privateKeys);
+			}
+			return json.set(ACTIVE_AT, activeAt).toString();
+		}
+
+	}
+
+}
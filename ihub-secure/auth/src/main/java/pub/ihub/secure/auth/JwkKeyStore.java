@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.auth;
+
+/**
+ * JWK密钥环存储
+ *
+ * @author henry
+ */
+public interface JwkKeyStore {
+
+	/**
+	 * 读取密钥环
+	 *
+	 * @return 密钥环内容（JSON），不存在时返回null
+	 */
+	String load();
+
+	/**
+	 * 保存密钥环，存储中的内容已不是读取时的内容（其他节点已修改）时放弃保存
+	 *
+	 * @param content  密钥环内容（JSON）
+	 * @param expected 读取时的密钥环内容，不存在时为null
+	 * @return 是否保存成功
+	 */
+	boolean save(String content, String expected);
+
+	/**
+	 * 监听其他节点对密钥环的修改（共享存储）
+	 *
+	 * @param listener 变更回调
+	 */
+	default void addListener(Runnable listener) {
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.auth;
+
+import com.alibaba.cloud.nacos.NacosConfigProperties;
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.ConfigType;
+import com.alibaba.nacos.api.config.listener.AbstractListener;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import lombok.SneakyThrows;
+
+import static com.alibaba.nacos.api.config.ConfigFactory.createConfigService;
+
+/**
+ * Nacos密钥环存储，多个授权服务节点共享同一密钥环
+ * <p>
+ * 密钥环中的私钥由{@link JwkKeyRing}加密后发布（须配置私钥加密密钥）；
+ * 按读取内容的MD5比较并发布，首次创建时不做比较，并发创建以最后发布的为准（其他节点经变更推送重新加载）
+ *
+ * @author henry
+ */
+public class NacosJwkKeyStore implements JwkKeyStore {
+
+	private final ConfigService configService;
+	private final NacosConfigProperties properties;
+	private final String dataId;
+
+	@SneakyThrows
+	public NacosJwkKeyStore(NacosConfigProperties properties, String dataId) {
+		configService = createConfigService(properties.getServerAddr());
+		this.properties = properties;
+		this.dataId = dataId;
+	}
+
+	@SneakyThrows
+	@Override
+	public String load() {
+		return configService.getConfig(dataId, properties.getGroup(), properties.getTimeout());
+	}
+
+	@SneakyThrows
+	@Override
+	public boolean save(String content, String expected) {
+		return configService.publishConfigCas(dataId, properties.getGroup(), content,
+			null == expected ? null : MD5Utils.md5Hex(expected, Constants.ENCODE), ConfigType.JSON.getType());
+	}
+
+	@SneakyThrows
+	@Override
+	public void addListener(Runnable listener) {
+		configService.addListener(dataId, properties.getGroup(), new AbstractListener() {
+			@Override
+			public void receiveConfigInfo(String configInfo) {
+				listener.run();
+			}
+		});
+	}
+
+}
@@ -18,80 +18,142 @@ package pub.ihub.secure.auth;
 
 import com.alibaba.cloud.nacos.NacosConfigProperties;
 import com.alibaba.nacos.api.config.ConfigService;
+import com.alibaba.nacos.api.config.listener.AbstractListener;
+import com.alibaba.nacos.api.config.listener.Listener;
 import lombok.SneakyThrows;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.core.env.PropertySource;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
-import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
-import static cn.hutool.core.lang.UUID.randomUUID;
-import static cn.hutool.core.util.BooleanUtil.toBoolean;
-import static com.alibaba.cloud.nacos.NacosConfigProperties.COMMAS;
 import static com.alibaba.cloud.nacos.parser.NacosDataParserHandler.getInstance;
 import static com.alibaba.nacos.api.config.ConfigFactory.createConfigService;
-import static org.springframework.security.oauth2.core.AuthorizationGrantType.AUTHORIZATION_CODE;
-import static org.springframework.security.oauth2.core.AuthorizationGrantType.CLIENT_CREDENTIALS;
-import static org.springframework.security.oauth2.core.AuthorizationGrantType.REFRESH_TOKEN;
-import static org.springframework.security.oauth2.core.ClientAuthenticationMethod.BASIC;
-import static org.springframework.security.oauth2.core.oidc.OidcScopes.OPENID;
-import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_DOMAIN;
-import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_REQUIRE_PROOF_KEY;
-import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_REQUIRE_USER_CONSENT;
-import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_SCOPE;
-import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_SECRET;
 
 /**
  * Nacos注册客户端存储库
+ * <p>
+ * 首次加载到存在的客户端时订阅Nacos配置变更，变更推送直接更新本地缓存；客户端移出缓存时取消订阅。
+ * Nacos客户端无法按分组列出配置，客户端ID列表维护在索引配置中（逗号或换行分隔），按ID查询及预热模式据此补全，
+ * 索引配置不存在时只能使用预加载的客户端ID，重启后其余客户端须先按客户端ID加载才能按ID查询
  *
  * @author liheng
  */
-public class NacosRegisteredClientRepository implements RegisteredClientRepository {
+public class NacosRegisteredClientRepository extends CachedRegisteredClientRepository {
+
+	private static final Log LOG = LogFactory.getLog(NacosRegisteredClientRepository.class);
 
 	private final ConfigService configService;
 	private final NacosConfigProperties properties;
+	private final Map<String, Listener> listeners = new ConcurrentHashMap<>();
+	private final Set<String> preloadClientIds;
+	private final String indexDataId;
+	private volatile Set<String> indexedClientIds;
 
-	@SneakyThrows
 	public NacosRegisteredClientRepository(NacosConfigProperties properties) {
+		this(properties, new AuthServerProperties.ClientCache());
+	}
+
+	public NacosRegisteredClientRepository(NacosConfigProperties properties, AuthServerProperties.ClientCache cache) {
+		this(properties, cache, new AuthServerProperties.ClientStore().getIndexDataId());
+	}
+
+	@SneakyThrows
+	public NacosRegisteredClientRepository(NacosConfigProperties properties, AuthServerProperties.ClientCache cache,
+										   String indexDataId) {
+		super(cache);
 		configService = createConfigService(properties.getServerAddr());
 		this.properties = properties;
+		this.indexDataId = indexDataId;
+		preloadClientIds = cache.getPreload().stream().filter(clientId -> clientId.indexOf('*') < 0)
+			.collect(Collectors.toCollection(LinkedHashSet::new));
 	}
 
 	@SneakyThrows
 	@Override
-	public RegisteredClient findById(String id) {
-		throw new UnsupportedOperationException("不支持使用ID查询Nacos注册客户端！");
+	protected RegisteredClient loadClient(String clientId) {
+		String config = configService.getConfig(clientId, properties.getGroup(), properties.getTimeout());
+		if (null == config || listeners.containsKey(clientId)) {
+			return parseClient(clientId, config);
+		}
+		Listener listener = new AbstractListener() {
+			@Override
+			public void receiveConfigInfo(String configInfo) {
+				refresh(clientId, parseClient(clientId, configInfo));
+			}
+		};
+		if (null != listeners.putIfAbsent(clientId, listener)) {
+			return parseClient(clientId, config);
+		}
+		try {
+			// 订阅时重新获取配置，避免遗漏两次获取之间的变更
+			return parseClient(clientId, configService.getConfigAndSignListener(clientId, properties.getGroup(),
+				properties.getTimeout(), listener));
+		} catch (Exception e) {
+			listeners.remove(clientId, listener);
+			throw e;
+		}
 	}
 
+	/**
+	 * 首次调用时获取并订阅客户端索引配置，合并预加载的客户端ID
+	 */
 	@SneakyThrows
 	@Override
-	public RegisteredClient findByClientId(String clientId) {
-		PropertySource<?> propertySource = getInstance().parseNacosData(clientId, configService
-			.getConfig(clientId, properties.getGroup(), properties.getTimeout()), properties.getFileExtension())
-			.stream().findFirst().orElse(null);
-		if (null != propertySource) {
-			Map<String, String> source = (Map<String, String>) propertySource.getSource();
-			String domain = source.get(SECURE_CLIENT_PROPERTIES_DOMAIN);
-			RegisteredClient.Builder builder = RegisteredClient.withId(randomUUID().toString())
-				.clientId(propertySource.getName())
-				.clientSecret(source.get(SECURE_CLIENT_PROPERTIES_SECRET))
-				.clientAuthenticationMethod(BASIC)
-				.authorizationGrantType(AUTHORIZATION_CODE)
-				.authorizationGrantType(REFRESH_TOKEN)
-				.authorizationGrantType(CLIENT_CREDENTIALS)
-				.redirectUri(domain + "/login/oauth2/code/ihub-oidc")
-				.redirectUri(domain + "/authorized")
-				.scope(OPENID)
-				.scope("internal")
-				.clientSettings(clientSettings -> clientSettings
-					.requireProofKey(toBoolean(source.get(SECURE_CLIENT_PROPERTIES_REQUIRE_PROOF_KEY)))
-					.requireUserConsent(toBoolean(source.get(SECURE_CLIENT_PROPERTIES_REQUIRE_USER_CONSENT))));
-			for (String scope : source.get(SECURE_CLIENT_PROPERTIES_SCOPE).split(COMMAS)) {
-				builder.scope(scope);
+	protected Collection<String> loadClientIds() {
+		Set<String> clientIds = indexedClientIds;
+		if (null == clientIds) {
+			synchronized (this) {
+				clientIds = indexedClientIds;
+				if (null == clientIds) {
+					String config = configService.getConfigAndSignListener(indexDataId, properties.getGroup(),
+						properties.getTimeout(), new AbstractListener() {
+							@Override
+							public void receiveConfigInfo(String configInfo) {
+								indexedClientIds = parseClientIds(configInfo);
+							}
+						});
+					if (null == config) {
+						LOG.warn("客户端索引配置不存在：" + indexDataId + "，重启后未加载的客户端无法按ID查询，" +
+							"请维护索引配置或在预加载中列出全部客户端");
+					}
+					clientIds = indexedClientIds = parseClientIds(config);
+				}
 			}
-			return builder.build();
 		}
-		return null;
+		return clientIds;
+	}
+
+	@Override
+	protected void onEvict(String clientId) {
+		Listener listener = listeners.remove(clientId);
+		if (null != listener) {
+			configService.removeListener(clientId, properties.getGroup(), listener);
+		}
+	}
+
+	private Set<String> parseClientIds(String config) {
+		Set<String> clientIds = new LinkedHashSet<>(preloadClientIds);
+		if (null != config) {
+			Arrays.stream(config.split("[,\\s]+")).filter(clientId -> !clientId.isEmpty()).forEach(clientIds::add);
+		}
+		return Collections.unmodifiableSet(clientIds);
+	}
+
+	@SneakyThrows
+	private RegisteredClient parseClient(String clientId, String config) {
+		PropertySource<?> propertySource = getInstance().parseNacosData(clientId, config,
+			properties.getFileExtension()).stream().findFirst().orElse(null);
+		return null == propertySource ? null :
+			RegisteredClientParser.parse(clientId, (Map<String, ?>) propertySource.getSource());
 	}
 
 }
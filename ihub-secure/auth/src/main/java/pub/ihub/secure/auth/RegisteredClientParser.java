@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.auth;
+
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+
+import java.util.Map;
+
+import static cn.hutool.core.util.BooleanUtil.toBoolean;
+import static org.springframework.security.oauth2.core.AuthorizationGrantType.AUTHORIZATION_CODE;
+import static org.springframework.security.oauth2.core.AuthorizationGrantType.CLIENT_CREDENTIALS;
+import static org.springframework.security.oauth2.core.AuthorizationGrantType.REFRESH_TOKEN;
+import static org.springframework.security.oauth2.core.ClientAuthenticationMethod.BASIC;
+import static org.springframework.security.oauth2.core.oidc.OidcScopes.OPENID;
+import static pub.ihub.secure.auth.CachedRegisteredClientRepository.registeredClientId;
+import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_DOMAIN;
+import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_REQUIRE_PROOF_KEY;
+import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_REQUIRE_USER_CONSENT;
+import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_SCOPE;
+import static pub.ihub.secure.core.Constant.SECURE_CLIENT_PROPERTIES_SECRET;
+
+/**
+ * 注册客户端解析，各存储共用
+ *
+ * @author henry
+ */
+final class RegisteredClientParser {
+
+	private static final String COMMAS = ",";
+
+	private RegisteredClientParser() {
+	}
+
+	/**
+	 * 解析注册客户端
+	 *
+	 * @param clientId 客户端ID
+	 * @param source   客户端属性（ihub.secure.client.*）
+	 * @return 注册客户端
+	 */
+	static RegisteredClient parse(String clientId, Map<String, ?> source) {
+		String domain = get(source, SECURE_CLIENT_PROPERTIES_DOMAIN);
+		RegisteredClient.Builder builder = RegisteredClient.withId(registeredClientId(clientId))
+			.clientId(clientId)
+			.clientSecret(get(source, SECURE_CLIENT_PROPERTIES_SECRET))
+			.clientAuthenticationMethod(BASIC)
+			.authorizationGrantType(AUTHORIZATION_CODE)
+			.authorizationGrantType(REFRESH_TOKEN)
+			.authorizationGrantType(CLIENT_CREDENTIALS)
+			.redirectUri(domain + "/login/oauth2/code/ihub-oidc")
+			.redirectUri(domain + "/authorized")
+			.scope(OPENID)
+			.scope("internal")
+			.clientSettings(clientSettings -> clientSettings
+				.requireProofKey(toBoolean(get(source, SECURE_CLIENT_PROPERTIES_REQUIRE_PROOF_KEY)))
+				.requireUserConsent(toBoolean(get(source, SECURE_CLIENT_PROPERTIES_REQUIRE_USER_CONSENT))));
+		String scopes = get(source, SECURE_CLIENT_PROPERTIES_SCOPE);
+		if (null != scopes) {
+			for (String scope : scopes.split(COMMAS)) {
+				builder.scope(scope.trim());
+			}
+		}
+		return builder.build();
+	}
+
+	private static String get(Map<String, ?> source, String key) {
+		Object value = source.get(key);
+		return null == value ? null : value.toString();
+	}
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+import org.springframework.util.PatternMatchUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 注册客户端预热
+ * <p>
+ * 启动时并行加载配置的客户端填充缓存，在服务就绪（ReadinessState）前完成；
+ * 含“*”的配置项为模式，与存储库列出的客户端ID（{@link CachedRegisteredClientRepository#loadClientIds()}）匹配，
+ * 存储库无法列出客户端ID时模式不匹配任何客户端；
+ * 预热失败只输出告警，不影响启动，未加载的客户端在首次请求时加载
+ *
+ * @author henry
+ */
+public class RegisteredClientWarmUp implements ApplicationRunner {
+
+	private static final Log LOG = LogFactory.getLog(RegisteredClientWarmUp.class);
+
+	/**
+	 * 预热总耗时
+	 */
+	public static final String WARM_UP_METRIC = "ihub.secure.client.warm-up";
+	/**
+	 * 单个客户端加载（获取及解析）耗时
+	 */
+	public static final String LOAD_METRIC = "ihub.secure.client.load";
+
+	private final RegisteredClientRepository repository;
+
+	private final Collection<String> preload;
+
+	private final int parallelism;
+
+	private final Duration timeout;
+
+	private final MeterRegistry meterRegistry;
+
+	public RegisteredClientWarmUp(RegisteredClientRepository repository, AuthServerProperties.ClientCache cache,
+								  MeterRegistry meterRegistry) {
+		this.repository = repository;
+		this.preload = cache.getPreload();
+		this.parallelism = cache.getPreloadParallelism();
+		this.timeout = cache.getPreloadTimeout();
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) throws Exception {
+		Set<String> clientIds = clientIds();
+		if (clientIds.isEmpty()) {
+			return;
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, clientIds.size())),
+			runnable -> {
+				Thread thread = new Thread(runnable, "ihub-client-warm-up-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		AtomicInteger loaded = new AtomicInteger();
+		long start = System.nanoTime();
+		try {
+			CompletableFuture.allOf(clientIds.stream().map(clientId -> CompletableFuture.runAsync(() -> {
+				long loadStart = System.nanoTime();
+				try {
+					if (null != repository.findByClientId(clientId)) {
+						loaded.incrementAndGet();
+					} else {
+						LOG.warn("预热客户端不存在：" + clientId);
+					}
+				} catch (Exception e) {
+					LOG.warn("预热客户端加载失败：" + clientId + "，" + e);
+				} finally {
+					record(Timer.builder(LOAD_METRIC).tag("client", clientId), System.nanoTime() - loadStart);
+				}
+			}, executor)).toArray(CompletableFuture[]::new)).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			LOG.warn("客户端预热超时（" + timeout.toMillis() + "ms），剩余客户端在首次请求时加载");
+		} finally {
+			executor.shutdownNow();
+		}
+		long elapsed = System.nanoTime() - start;
+		record(Timer.builder(WARM_UP_METRIC), elapsed);
+		LOG.info("客户端预热完成：" + loaded.get() + "/" + clientIds.size() + "，耗时" +
+			TimeUnit.NANOSECONDS.toMillis(elapsed) + "ms");
+	}
+
+	/**
+	 * 展开预加载配置：客户端ID原样保留，模式按存储库列出的客户端ID匹配
+	 */
+	private Set<String> clientIds() {
+		Set<String> clientIds = new LinkedHashSet<>();
+		Set<String> patterns = new LinkedHashSet<>();
+		for (String clientId : preload) {
+			(isPattern(clientId) ? patterns : clientIds).add(clientId);
+		}
+		if (!patterns.isEmpty()) {
+			String[] matchers = patterns.toArray(new String[0]);
+			try {
+				for (String clientId : listClientIds()) {
+					if (!isPattern(clientId) && PatternMatchUtils.simpleMatch(matchers, clientId)) {
+						clientIds.add(clientId);
+					}
+				}
+			} catch (Exception e) {
+				LOG.warn("预热客户端列表加载失败，忽略模式" + patterns + "，" + e);
+			}
+		}
+		return clientIds;
+	}
+
+	private Collection<String> listClientIds() {
+		if (repository instanceof CachedRegisteredClientRepository) {
+			return ((CachedRegisteredClientRepository) repository).loadClientIds();
+		}
+		LOG.warn("存储库不支持列出客户端ID，忽略预热模式：" + repository.getClass().getName());
+		return Collections.emptySet();
+	}
+
+	private static boolean isPattern(String clientId) {
+		return clientId.indexOf('*') >= 0;
+	}
+
+	private void record(Timer.Builder timer, long nanos) {
+		if (null != meterRegistry) {
+			timer.register(meterRegistry).record(nanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+}
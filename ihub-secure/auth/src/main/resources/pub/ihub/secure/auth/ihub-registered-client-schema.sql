@@ -0,0 +1,12 @@
+CREATE TABLE ihub_registered_client
+(
+    id                   VARCHAR(36)  NOT NULL,
+    client_id            VARCHAR(100) NOT NULL,
+    client_secret        VARCHAR(200),
+    domain               VARCHAR(200),
+    scope                VARCHAR(1000),
+    require_proof_key    BOOLEAN DEFAULT FALSE NOT NULL,
+    require_user_consent BOOLEAN DEFAULT FALSE NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ihub_registered_client_client_id UNIQUE (client_id)
+);
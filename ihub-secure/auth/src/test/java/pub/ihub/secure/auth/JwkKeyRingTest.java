@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.auth;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JoseHeader;
+import org.springframework.security.oauth2.jwt.JoseHeaderNames;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.NimbusJwsEncoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JWK密钥环测试
+ *
+ * @author henry
+ */
+class JwkKeyRingTest {
+
+	@Test
+	void issueTokenWhileTwoKeysArePublished() {
+		try (JwkKeyRing ring = new JwkKeyRing(new MemoryJwkKeyStore(), properties())) {
+			// 新密钥已提前发布，JWK Set端点返回两个密钥
+			assertEquals(2, ring.get(new JWKSelector(new JWKMatcher.Builder().build()), null).size());
+
+			JoseHeader.Builder headers = JoseHeader.withAlgorithm(SignatureAlgorithm.RS256);
+			ring.customize(headers);
+			JoseHeader header = headers.build();
+			Instant now = Instant.now();
+			Jwt jwt = new NimbusJwsEncoder(ring).encode(header, JwtClaimsSet.builder()
+				.subject("ihub").issuedAt(now).expiresAt(now.plusSeconds(60)).build());
+
+			assertEquals(header.getHeaders().get(JoseHeaderNames.KID), jwt.getHeaders().get(JoseHeaderNames.KID));
+		}
+	}
+
+	@Test
+	void signingLookupReturnsActiveKey() {
+		try (JwkKeyRing ring = new JwkKeyRing(new MemoryJwkKeyStore(), properties())) {
+			List<JWK> keys = ring.get(new JWKSelector(JWKMatcher.forJWSHeader(new JWSHeader(JWSAlgorithm.RS256))),
+				null);
+
+			assertEquals(1, keys.size());
+			assertEquals(activeKeyId(ring), keys.get(0).getKeyID());
+		}
+	}
+
+	@Test
+	void encryptPrivateKeys() {
+		MemoryJwkKeyStore store = new MemoryJwkKeyStore();
+		AuthServerProperties.KeyRing properties = properties();
+		properties.setSecret("ihub-jwk-key-ring-test-secret");
+		try (JwkKeyRing ring = new JwkKeyRing(store, properties);
+			 JwkKeyRing other = new JwkKeyRing(store, properties)) {
+			assertFalse(store.load().contains("\"d\""));
+			// 其他节点解密共享的密钥环，使用同一签名密钥
+			assertEquals(activeKeyId(ring), activeKeyId(other));
+			assertTrue(other.get(new JWKSelector(JWKMatcher.forJWSHeader(new JWSHeader(JWSAlgorithm.RS256))), null)
+				.get(0).isPrivate());
+		}
+	}
+
+	@Test
+	void sharedStoreRequiresSecret() {
+		AuthServerProperties.KeyRing properties = properties();
+		properties.setStore(AuthServerProperties.KeyStoreType.NACOS);
+		assertThrows(IllegalStateException.class, () -> new JwkKeyRing(new MemoryJwkKeyStore(), properties));
+	}
+
+	private static Object activeKeyId(JwkKeyRing ring) {
+		JoseHeader.Builder headers = JoseHeader.withAlgorithm(SignatureAlgorithm.RS256);
+		ring.customize(headers);
+		return headers.build().getHeaders().get(JoseHeaderNames.KID);
+	}
+
+	/**
+	 * 轮换周期不大于重叠期，首次轮换即提前发布下一个密钥
+	 */
+	private static AuthServerProperties.KeyRing properties() {
+		AuthServerProperties.KeyRing properties = new AuthServerProperties.KeyRing();
+		properties.setRotationPeriod(Duration.ofDays(1));
+		properties.setOverlap(Duration.ofDays(1));
+		return properties;
+	}
+
+	private static final class MemoryJwkKeyStore implements JwkKeyStore {
+
+		private String content;
+
+		@Override
+		public synchronized String load() {
+			return content;
+		}
+
+		@Override
+		public synchronized boolean save(String content, String expected) {
+			if (!Objects.equals(this.content, expected)) {
+				return false;
+			}
+			this.content = content;
+			return true;
+		}
+
+	}
+
+}
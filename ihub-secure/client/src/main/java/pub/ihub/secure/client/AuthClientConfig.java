@@ -17,8 +17,10 @@ package pub.ihub.secure.client;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
@@ -30,6 +32,7 @@ import org.springframework.security.oauth2.client.web.OAuth2AuthorizedClientRepo
 import org.springframework.security.oauth2.client.web.reactive.function.client.ServletOAuth2AuthorizedClientExchangeFilterFunction;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.reactive.function.client.WebClient;
+import pub.ihub.core.IHubStartup;
 
 import static org.springframework.boot.autoconfigure.security.SecurityProperties.BASIC_AUTH_ORDER;
 import static org.springframework.security.config.Customizer.withDefaults;
@@ -42,7 +45,7 @@ import static pub.ihub.secure.core.Constant.CLIENT_ID_OIDC;
  */
 @EnableWebSecurity
 @EnableConfigurationProperties(AuthClientProperties.class)
-@ComponentScan("pub.ihub.secure.client")
+@Import(AuthorizationController.class)
 public class AuthClientConfig {
 
 	@Bean
@@ -56,12 +59,18 @@ public class AuthClientConfig {
 	}
 
 	@Bean
-	WebClient webClient(OAuth2AuthorizedClientManager authorizedClientManager) {
-		ServletOAuth2AuthorizedClientExchangeFilterFunction oauth2Client =
-			new ServletOAuth2AuthorizedClientExchangeFilterFunction(authorizedClientManager);
-		return WebClient.builder()
-			.apply(oauth2Client.oauth2Configuration())
-			.build();
+	WebClient webClient(OAuth2AuthorizedClientManager authorizedClientManager,
+						ApplicationStartup applicationStartup) {
+		StartupStep step = IHubStartup.start(applicationStartup, "secure.client.web-client");
+		try {
+			ServletOAuth2AuthorizedClientExchangeFilterFunction oauth2Client =
+				new ServletOAuth2AuthorizedClientExchangeFilterFunction(authorizedClientManager);
+			return WebClient.builder()
+				.apply(oauth2Client.oauth2Configuration())
+				.build();
+		} finally {
+			step.end();
+		}
 	}
 
 	@Bean
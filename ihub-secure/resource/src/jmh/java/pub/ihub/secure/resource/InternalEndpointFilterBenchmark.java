@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.resource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import javax.servlet.FilterChain;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static pub.ihub.secure.core.Constant.RESOURCE_APIS_ENDPOINT_URI;
+import static pub.ihub.secure.core.Constant.RESOURCE_SCOPES_ENDPOINT_URI;
+
+/**
+ * 内部端点过滤器基准测试
+ * <p>
+ * 普通业务请求经过内部端点过滤器的额外开销：原两个Ant路径匹配过滤器对比前缀分发过滤器
+ *
+ * @author henry
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InternalEndpointFilterBenchmark {
+
+	private static final FilterChain NOOP_CHAIN = (request, response) -> {
+	};
+
+	private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+	private MockHttpServletRequest request;
+
+	private RequestMatcher scopesMatcher;
+
+	private RequestMatcher apisMatcher;
+
+	private InternalEndpointFilter filter;
+
+	@Setup
+	public void setup() {
+		request = new MockHttpServletRequest(HttpMethod.GET.name(), "/order/1024/items");
+		request.setServletPath("/order/1024/items");
+		scopesMatcher = new AntPathRequestMatcher(RESOURCE_SCOPES_ENDPOINT_URI, HttpMethod.GET.name());
+		apisMatcher = new AntPathRequestMatcher(RESOURCE_APIS_ENDPOINT_URI, HttpMethod.GET.name());
+		filter = new InternalEndpointFilter()
+			.endpoint(RESOURCE_SCOPES_ENDPOINT_URI, new CachedJsonPayload(Collections::emptyMap))
+			.endpoint(RESOURCE_APIS_ENDPOINT_URI, new CachedJsonPayload(Collections::emptySet));
+	}
+
+	@Benchmark
+	public boolean antPathFilters() throws Exception {
+		boolean matched = scopesMatcher.matches(request) || apisMatcher.matches(request);
+		if (!matched) {
+			NOOP_CHAIN.doFilter(request, response);
+		}
+		return matched;
+	}
+
+	@Benchmark
+	public void dispatchFilter() throws Exception {
+		filter.doFilter(request, response, NOOP_CHAIN);
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.resource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import javax.servlet.FilterChain;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static pub.ihub.secure.core.Constant.RESOURCE_APIS_ENDPOINT_URI;
+import static pub.ihub.secure.core.Constant.RESOURCE_SCOPES_ENDPOINT_URI;
+
+/**
+ * 资源服务鉴权吞吐基准测试
+ * <p>
+ * 同一作用域资源映射下，Servlet过滤器链与WebFlux鉴权管理器加内部端点过滤器处理普通业务请求的吞吐对比
+ *
+ * @author henry
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ResourceServerThroughputBenchmark {
+
+	private static final int MAPPINGS = 100;
+
+	private static final String PATH = "/svc7/res57/1024/items";
+
+	private static final FilterChain NOOP_CHAIN = (request, response) -> {
+	};
+
+	private static final WebFilterChain NOOP_WEB_CHAIN = exchange -> Mono.empty();
+
+	private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+	private MockHttpServletRequest request;
+
+	private FilterChain servletChain;
+
+	private ScopeResourceFilter scopeResourceFilter;
+
+	private Mono<Authentication> authentication;
+
+	private MockServerWebExchange exchange;
+
+	private AuthorizationContext authorizationContext;
+
+	private ReactiveScopeAuthorizationManager authorizationManager;
+
+	private InternalEndpointWebFilter internalEndpointWebFilter;
+
+	@Setup
+	public void setup() {
+		Map<String, String[]> scopeResources = new LinkedHashMap<>(MAPPINGS);
+		for (int i = 0; i < MAPPINGS; i++) {
+			scopeResources.put("scope" + i, new String[]{"/svc" + i % 50 + "/res" + i + "/**"});
+		}
+		ScopeResourceIndex scopeResourceIndex = ScopeResourceIndex.compile(scopeResources);
+		Authentication token = new TestingAuthenticationToken("client", null, "SCOPE_scope57");
+		CachedJsonPayload scopesPayload = new CachedJsonPayload(() -> scopeResources);
+		CachedJsonPayload apisPayload = new CachedJsonPayload(Collections::emptySet);
+
+		request = new MockHttpServletRequest("GET", PATH);
+		request.setServletPath(PATH);
+		scopeResourceFilter = new ScopeResourceFilter(scopeResourceIndex);
+		InternalEndpointFilter internalEndpointFilter = new InternalEndpointFilter()
+			.endpoint(RESOURCE_SCOPES_ENDPOINT_URI, scopesPayload)
+			.endpoint(RESOURCE_APIS_ENDPOINT_URI, apisPayload);
+		servletChain = (req, res) -> internalEndpointFilter.doFilter(req, res, NOOP_CHAIN);
+		SecurityContextHolder.getContext().setAuthentication(token);
+
+		// 与Servlet请求一致，交换对象在准备阶段创建并复用，只比较鉴权及过滤器处理开销
+		authentication = Mono.just(token);
+		exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+		authorizationContext = new AuthorizationContext(exchange);
+
+		authorizationManager = new ReactiveScopeAuthorizationManager(scopeResourceIndex);
+		internalEndpointWebFilter = new InternalEndpointWebFilter()
+			.endpoint(RESOURCE_SCOPES_ENDPOINT_URI, scopesPayload)
+			.endpoint(RESOURCE_APIS_ENDPOINT_URI, apisPayload);
+	}
+
+	@TearDown
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Benchmark
+	public void servlet() throws Exception {
+		scopeResourceFilter.doFilter(request, response, servletChain);
+	}
+
+	@Benchmark
+	public Void reactive() {
+		return authorizationManager.check(authentication, authorizationContext)
+			.filter(AuthorizationDecision::isGranted)
+			.flatMap(decision -> internalEndpointWebFilter.filter(exchange, NOOP_WEB_CHAIN))
+			.block();
+	}
+
+}
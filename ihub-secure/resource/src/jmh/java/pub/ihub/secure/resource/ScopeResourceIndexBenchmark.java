@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.resource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 作用域资源匹配基准测试
+ * <p>
+ * 对比逐条模式匹配（原mvcMatchers方式）与前缀树索引在不同映射数量下的单次匹配耗时
+ *
+ * @author henry
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScopeResourceIndexBenchmark {
+
+	private static final int PATH_COUNT = 1024;
+
+	private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+	@Param({"10", "100", "1000"})
+	public int mappings;
+
+	private String[][] patterns;
+
+	private String[] paths;
+
+	private ScopeResourceIndex index;
+
+	@Setup
+	public void setup() {
+		Map<String, String[]> scopeResources = new LinkedHashMap<>(mappings);
+		patterns = new String[mappings][];
+		for (int i = 0; i < mappings; i++) {
+			String service = "/svc" + i % 50;
+			patterns[i] = new String[]{service + "/res" + i + "/**", service + "/res" + i + "/{id}/items/*.json"};
+			scopeResources.put("scope" + i, patterns[i]);
+		}
+		index = ScopeResourceIndex.compile(scopeResources);
+		paths = new String[PATH_COUNT];
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < PATH_COUNT; i++) {
+			int mapping = random.nextInt(mappings);
+			// 约十分之一的请求不命中任何映射
+			paths[i] = 0 == i % 10 ? "/public/health/" + i :
+				"/svc" + mapping % 50 + "/res" + mapping + "/" + i + "/items/detail.json";
+		}
+	}
+
+	@Benchmark
+	public int linear() {
+		String path = randomPath();
+		for (int i = 0; i < patterns.length; i++) {
+			for (String pattern : patterns[i]) {
+				if (antPathMatcher.match(pattern, path)) {
+					return i;
+				}
+			}
+		}
+		return ScopeResourceIndex.NO_MATCH;
+	}
+
+	@Benchmark
+	public int index() {
+		return index.match(randomPath());
+	}
+
+	private String randomPath() {
+		return paths[ThreadLocalRandom.current().nextInt(PATH_COUNT)];
+	}
+
+}
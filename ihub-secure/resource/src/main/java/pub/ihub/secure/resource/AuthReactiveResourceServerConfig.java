@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.resource;
+
+import cn.hutool.core.map.MapUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.reactive.ReactiveOAuth2ResourceServerAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import pub.ihub.core.IHubStartup;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+import static pub.ihub.secure.core.Constant.RESOURCE_APIS_ENDPOINT_URI;
+import static pub.ihub.secure.core.Constant.RESOURCE_INTERNAL_URI;
+import static pub.ihub.secure.core.Constant.RESOURCE_SCOPES_ENDPOINT_URI;
+
+/**
+ * 资源服务配置（WebFlux）
+ * <p>
+ * 与{@link AuthResourceServerConfig}保持一致的作用域资源映射、内部端点及令牌校验，响应式应用自动启用；
+ * 本组件经云组件引入Servlet Web栈，应用默认推断为Servlet应用，响应式应用须引入spring-webflux
+ * 并配置spring.main.web-application-type=reactive
+ *
+ * @author henry
+ */
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = REACTIVE)
+@EnableConfigurationProperties({AuthResourceProperties.class, OAuth2ResourceServerProperties.class})
+@AutoConfigureBefore(ReactiveOAuth2ResourceServerAutoConfiguration.class)
+@Import(CachingJwtDecoderConfiguration.class)
+public class AuthReactiveResourceServerConfig {
+
+	@Bean
+	SecurityWebFilterChain securityResourceWebFilterChain(ServerHttpSecurity http, AuthResourceProperties properties,
+														  ObjectProvider<RequestMappingHandlerMapping> handlerMapping,
+														  ConfigurableApplicationContext applicationContext,
+														  ApplicationStartup applicationStartup) {
+		StartupStep step = IHubStartup.start(applicationStartup, "secure.resource.web-filter-chain")
+			.tag("scopes", String.valueOf(properties.getScopeResources().size()));
+		try {
+			ScopeResourceIndex scopeResourceIndex = ScopeResourceIndex.compile(properties.getScopeResources());
+			http
+				.authorizeExchange(exchanges -> exchanges
+					.pathMatchers(RESOURCE_INTERNAL_URI + "/**").hasAuthority("SCOPE_internal")
+					.anyExchange().access(new ReactiveScopeAuthorizationManager(scopeResourceIndex)))
+				.oauth2ResourceServer().jwt();
+
+			http.addFilterAfter(new InternalEndpointWebFilter()
+				.endpoint(RESOURCE_SCOPES_ENDPOINT_URI, cachedPayload(applicationContext, properties::getScopeResources))
+				.endpoint(RESOURCE_APIS_ENDPOINT_URI, cachedPayload(applicationContext,
+					() -> handlerMapping.getObject().getHandlerMethods().keySet().stream().map(info -> MapUtil.builder()
+						.put("methods", info.getMethodsCondition().getMethods())
+						.put("patterns", info.getPatternsCondition().getPatterns().stream()
+							.map(PathPattern::getPatternString).collect(Collectors.toSet())).build())
+						.collect(Collectors.toSet()))),
+				SecurityWebFiltersOrder.AUTHORIZATION);
+
+			return http.build();
+		} finally {
+			step.end();
+		}
+	}
+
+	/**
+	 * 同步解析器只读取本地缓存及预取的JWKS，无IO，可直接在事件循环线程上执行
+	 */
+	@Bean
+	@ConditionalOnBean(CachingJwtDecoder.class)
+	@ConditionalOnMissingBean(ReactiveJwtDecoder.class)
+	ReactiveJwtDecoder reactiveCachingJwtDecoder(CachingJwtDecoder cachingJwtDecoder) {
+		return token -> Mono.fromCallable(() -> cachingJwtDecoder.decode(token));
+	}
+
+	private static CachedJsonPayload cachedPayload(ConfigurableApplicationContext applicationContext,
+												   Supplier<?> supplier) {
+		CachedJsonPayload payload = new CachedJsonPayload(supplier);
+		applicationContext.addApplicationListener(payload);
+		return payload;
+	}
+
+}
@@ -19,6 +19,7 @@ import cn.hutool.core.map.MapUtil;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
 import java.util.Map;
 
 import static pub.ihub.secure.core.Constant.SECURE_PROPERTIES_PREFIX;
@@ -36,5 +37,31 @@ public final class AuthResourceProperties {
 	 * 作用域资源映射
 	 */
 	private Map<String, String[]> scopeResources = MapUtil.empty();
+	/**
+	 * 令牌校验缓存
+	 */
+	private final JwtCache jwtCache = new JwtCache();
+
+	@Data
+	public static class JwtCache {
+
+		/**
+		 * 是否开启，默认：true
+		 */
+		private boolean enabled = true;
+		/**
+		 * 最大缓存令牌数量，默认：10000
+		 */
+		private int maxSize = 10000;
+		/**
+		 * JWKS后台刷新间隔，须小于授权服务密钥重叠期，默认：5分钟
+		 */
+		private Duration jwksRefreshInterval = Duration.ofMinutes(5);
+		/**
+		 * 遇到未知kid时触发刷新的最小间隔，默认：30秒
+		 */
+		private Duration jwksMinRefreshInterval = Duration.ofSeconds(30);
+
+	}
 
 }
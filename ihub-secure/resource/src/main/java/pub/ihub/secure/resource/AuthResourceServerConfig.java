@@ -15,31 +15,31 @@
  */
 package pub.ihub.secure.resource;
 
-import cn.hutool.json.JSONUtil;
-import lombok.SneakyThrows;
+import cn.hutool.core.map.MapUtil;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.OAuth2ResourceServerAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.annotation.Order;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.intercept.FilterSecurityInterceptor;
-import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
-import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import pub.ihub.core.IHubStartup;
 
-import javax.servlet.Filter;
-import javax.servlet.FilterChain;
-import javax.servlet.ServletRequest;
-import javax.servlet.ServletResponse;
-import javax.servlet.http.HttpServletRequest;
-import java.io.Writer;
-import java.util.HashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
 import static org.springframework.boot.autoconfigure.security.SecurityProperties.IGNORED_ORDER;
 import static pub.ihub.secure.core.Constant.RESOURCE_APIS_ENDPOINT_URI;
 import static pub.ihub.secure.core.Constant.RESOURCE_INTERNAL_URI;
@@ -51,46 +51,53 @@ import static pub.ihub.secure.core.Constant.RESOURCE_SCOPES_ENDPOINT_URI;
  * @author liheng
  */
 @EnableWebSecurity
-@EnableConfigurationProperties(AuthResourceProperties.class)
+@ConditionalOnWebApplication(type = SERVLET)
+@EnableConfigurationProperties({AuthResourceProperties.class, OAuth2ResourceServerProperties.class})
+@AutoConfigureBefore(OAuth2ResourceServerAutoConfiguration.class)
+@Import(CachingJwtDecoderConfiguration.class)
 public class AuthResourceServerConfig {
 
 	@Bean
 	@Order(IGNORED_ORDER)
 	SecurityFilterChain securityResourceFilterChain(HttpSecurity http, AuthResourceProperties properties,
-													RequestMappingHandlerMapping handlerMapping) throws Exception {
-		http
-			.authorizeRequests(registry -> registry
-				.mvcMatchers(RESOURCE_INTERNAL_URI + "/**").hasAnyAuthority(appendScopePrefix("internal")))
-			.authorizeRequests(registry -> properties.getScopeResources().forEach((scope, resources) -> registry
-				.mvcMatchers(resources).hasAnyAuthority(appendScopePrefix(scope))))
-			.authorizeRequests().anyRequest().authenticated();
+													ObjectProvider<RequestMappingHandlerMapping> handlerMapping,
+													ApplicationStartup applicationStartup) throws Exception {
+		StartupStep step = IHubStartup.start(applicationStartup, "secure.resource.filter-chain")
+			.tag("scopes", String.valueOf(properties.getScopeResources().size()));
+		try {
+			http
+				.authorizeRequests(registry -> registry
+					.mvcMatchers(RESOURCE_INTERNAL_URI + "/**").hasAnyAuthority(appendScopePrefix("internal")))
+				.authorizeRequests().anyRequest().authenticated();
 
-		http.oauth2ResourceServer().jwt();
+			ScopeResourceIndex scopeResourceIndex = ScopeResourceIndex.compile(properties.getScopeResources());
+			if (!scopeResourceIndex.isEmpty()) {
+				http.addFilterAfter(new ScopeResourceFilter(scopeResourceIndex), FilterSecurityInterceptor.class);
+			}
+
+			http.oauth2ResourceServer().jwt();
 
-		http.addFilterAfter(doFilter(RESOURCE_SCOPES_ENDPOINT_URI, properties::getScopeResources),
-			FilterSecurityInterceptor.class);
-		http.addFilterAfter(doFilter(RESOURCE_APIS_ENDPOINT_URI, () -> handlerMapping.getHandlerMethods().keySet()
-			.stream().map(info -> new HashMap<String, Object>(2) {{
-				put("methods", info.getMethodsCondition().getMethods());
-				put("patterns", info.getPatternValues());
-			}}).collect(Collectors.toSet())), FilterSecurityInterceptor.class);
+			ConfigurableApplicationContext applicationContext =
+				(ConfigurableApplicationContext) http.getSharedObject(ApplicationContext.class);
+			http.addFilterAfter(new InternalEndpointFilter()
+				.endpoint(RESOURCE_SCOPES_ENDPOINT_URI, cachedPayload(applicationContext, properties::getScopeResources))
+				.endpoint(RESOURCE_APIS_ENDPOINT_URI, cachedPayload(applicationContext,
+					() -> handlerMapping.getObject().getHandlerMethods().keySet().stream().map(info -> MapUtil.builder()
+						.put("methods", info.getMethodsCondition().getMethods())
+						.put("patterns", info.getPatternValues()).build()).collect(Collectors.toSet()))),
+				FilterSecurityInterceptor.class);
 
-		return http.build();
+			return http.build();
+		} finally {
+			step.end();
+		}
 	}
 
-	@SneakyThrows
-	private Filter doFilter(String matcherUri, Supplier<?> supplier) {
-		RequestMatcher requestMatcher = new AntPathRequestMatcher(matcherUri, HttpMethod.GET.name());
-		return (ServletRequest request, ServletResponse response, FilterChain chain) -> {
-			if (!requestMatcher.matches((HttpServletRequest) request)) {
-				chain.doFilter(request, response);
-				return;
-			}
-			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-			try (Writer writer = response.getWriter()) {
-				writer.write(JSONUtil.toJsonStr(supplier.get()));
-			}
-		};
+	private static CachedJsonPayload cachedPayload(ConfigurableApplicationContext applicationContext,
+												   Supplier<?> supplier) {
+		CachedJsonPayload payload = new CachedJsonPayload(supplier);
+		applicationContext.addApplicationListener(payload);
+		return payload;
 	}
 
 	private static String appendScopePrefix(String scope) {
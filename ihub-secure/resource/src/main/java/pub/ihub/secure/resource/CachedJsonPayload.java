@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.resource;
+
+import cn.hutool.json.JSONUtil;
+import lombok.SneakyThrows;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 预序列化的JSON响应
+ * <p>
+ * 首次请求时序列化并缓存原文及gzip字节，上下文刷新时失效；
+ * 响应携带所选编码对应的ETag（gzip内容带-gzip后缀），If-None-Match命中时直接返回304，不再输出响应体
+ *
+ * @author henry
+ */
+final class CachedJsonPayload implements ApplicationListener<ContextRefreshedEvent> {
+
+	static final String GZIP = "gzip";
+
+	private final Supplier<?> supplier;
+
+	private volatile Payload payload;
+
+	CachedJsonPayload(Supplier<?> supplier) {
+		this.supplier = supplier;
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		invalidate();
+	}
+
+	/**
+	 * 清除缓存，下次请求重新序列化
+	 */
+	void invalidate() {
+		payload = null;
+	}
+
+	/**
+	 * 输出响应
+	 *
+	 * @param request  请求
+	 * @param response 响应
+	 * @throws IOException 输出异常
+	 */
+	void write(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		Payload current = payload();
+		boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+		response.setHeader(HttpHeaders.ETAG, current.etag(gzip));
+		response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (current.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), gzip)) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+		if (gzip) {
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+		}
+		byte[] body = current.body(gzip);
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setContentLength(body.length);
+		try (OutputStream outputStream = response.getOutputStream()) {
+			outputStream.write(body);
+		}
+	}
+
+	/**
+	 * 获取缓存内容，未缓存时序列化
+	 *
+	 * @return 缓存内容
+	 */
+	Payload payload() {
+		Payload current = payload;
+		if (null == current) {
+			synchronized (this) {
+				current = payload;
+				if (null == current) {
+					payload = current = new Payload(JSONUtil.toJsonStr(supplier.get()).getBytes(StandardCharsets.UTF_8));
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * 是否接受gzip编码，按q值判断（q=0表示不接受），未列出gzip时按通配符*判断
+	 *
+	 * @param acceptEncoding Accept-Encoding请求头
+	 * @return 是否接受gzip编码
+	 */
+	static boolean acceptsGzip(String acceptEncoding) {
+		if (null == acceptEncoding) {
+			return false;
+		}
+		boolean wildcard = false;
+		for (String coding : acceptEncoding.split(",")) {
+			int semicolon = coding.indexOf(';');
+			String name = (-1 == semicolon ? coding : coding.substring(0, semicolon)).trim();
+			if (GZIP.equalsIgnoreCase(name) || "x-gzip".equalsIgnoreCase(name)) {
+				return 0 < quality(coding, semicolon);
+			}
+			if ("*".equals(name)) {
+				wildcard = 0 < quality(coding, semicolon);
+			}
+		}
+		return wildcard;
+	}
+
+	private static double quality(String coding, int semicolon) {
+		if (-1 == semicolon) {
+			return 1;
+		}
+		for (String param : coding.substring(semicolon + 1).split(";")) {
+			String trimmed = param.trim();
+			if (trimmed.startsWith("q=") || trimmed.startsWith("Q=")) {
+				try {
+					return Double.parseDouble(trimmed.substring(2).trim());
+				} catch (NumberFormatException e) {
+					return 0;
+				}
+			}
+		}
+		return 1;
+	}
+
+	static final class Payload {
+
+		private final byte[] body;
+
+		private final byte[] gzipBody;
+
+		private final String etag;
+
+		private final String gzipEtag;
+
+		private Payload(byte[] body) {
+			this.body = body;
+			this.gzipBody = gzip(body);
+			String digest = DigestUtils.md5DigestAsHex(body);
+			this.etag = "\"0" + digest + "\"";
+			this.gzipEtag = "\"0" + digest + "-gzip\"";
+		}
+
+		String etag(boolean gzip) {
+			return gzip ? gzipEtag : etag;
+		}
+
+		byte[] body(boolean gzip) {
+			return gzip ? gzipBody : body;
+		}
+
+		boolean matches(String ifNoneMatch, boolean gzip) {
+			return null != ifNoneMatch && ("*".equals(ifNoneMatch.trim()) || ifNoneMatch.contains(etag(gzip)));
+		}
+
+		@SneakyThrows
+		private static byte[] gzip(byte[] body) {
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4 + 32);
+			try (GZIPOutputStream gzip = new GZIPOutputStream(outputStream)) {
+				gzip.write(body);
+			}
+			return outputStream.toByteArray();
+		}
+
+	}
+
+}
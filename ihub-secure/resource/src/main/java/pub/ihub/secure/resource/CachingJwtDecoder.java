@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.resource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.SneakyThrows;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 令牌校验缓存
+ * <p>
+ * 以令牌SHA-256摘要为键缓存校验通过的{@link Jwt}，至令牌exp时失效，缓存命中时不再验签；
+ * 无exp的令牌不缓存，缓存满时先清理已过期令牌，仍满时随机淘汰十分之一
+ *
+ * @author henry
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+	/**
+	 * 缓存命中/未命中次数（result=hit|miss）
+	 */
+	public static final String CACHE_METRIC = "ihub.secure.resource.jwt.cache";
+	/**
+	 * 验签耗时
+	 */
+	public static final String VERIFY_METRIC = "ihub.secure.resource.jwt.verify";
+
+	private final JwtDecoder delegate;
+
+	private final int maxSize;
+
+	private final Map<String, Jwt> verified = new ConcurrentHashMap<>();
+
+	private final Counter hits;
+
+	private final Counter misses;
+
+	private final Timer verifyTimer;
+
+	public CachingJwtDecoder(JwtDecoder delegate, int maxSize, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.maxSize = maxSize;
+		if (null == meterRegistry) {
+			hits = misses = null;
+			verifyTimer = null;
+		} else {
+			hits = Counter.builder(CACHE_METRIC).tag("result", "hit").register(meterRegistry);
+			misses = Counter.builder(CACHE_METRIC).tag("result", "miss").register(meterRegistry);
+			verifyTimer = Timer.builder(VERIFY_METRIC).register(meterRegistry);
+		}
+	}
+
+	@Override
+	public Jwt decode(String token) {
+		String key = hash(token);
+		Jwt jwt = verified.get(key);
+		if (null != jwt) {
+			if (jwt.getExpiresAt().isAfter(Instant.now())) {
+				increment(hits);
+				return jwt;
+			}
+			verified.remove(key, jwt);
+		}
+		increment(misses);
+		long start = System.nanoTime();
+		jwt = delegate.decode(token);
+		if (null != verifyTimer) {
+			verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+		if (null != jwt.getExpiresAt()) {
+			if (verified.size() >= maxSize) {
+				evict();
+			}
+			verified.put(key, jwt);
+		}
+		return jwt;
+	}
+
+	private void evict() {
+		Instant now = Instant.now();
+		verified.values().removeIf(jwt -> !jwt.getExpiresAt().isAfter(now));
+		int overflow = verified.size() - maxSize + maxSize / 10;
+		for (Iterator<String> iterator = verified.keySet().iterator(); overflow > 0 && iterator.hasNext(); overflow--) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	@SneakyThrows
+	private static String hash(String token) {
+		return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+			.digest(token.getBytes(StandardCharsets.US_ASCII)));
+	}
+
+	private static void increment(Counter counter) {
+		if (null != counter) {
+			counter.increment();
+		}
+	}
+
+}
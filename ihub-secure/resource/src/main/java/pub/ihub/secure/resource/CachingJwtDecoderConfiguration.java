@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.resource;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+import java.net.URL;
+
+import static pub.ihub.secure.core.Constant.SECURE_PROPERTIES_PREFIX;
+
+/**
+ * 带校验缓存的令牌解析器，JWKS由后台线程预取，Servlet与WebFlux资源服务共用
+ *
+ * @author henry
+ */
+@ConditionalOnMissingBean({JwtDecoder.class, ReactiveJwtDecoder.class})
+@ConditionalOnProperty("spring.security.oauth2.resourceserver.jwt.jwk-set-uri")
+@Configuration(proxyBeanMethods = false)
+class CachingJwtDecoderConfiguration {
+
+	private static final String JWT_CACHE_ENABLED_PROPERTY = SECURE_PROPERTIES_PREFIX + ".resource.jwt-cache.enabled";
+
+	@Bean
+	@ConditionalOnProperty(name = JWT_CACHE_ENABLED_PROPERTY, matchIfMissing = true)
+	@SneakyThrows
+	PrefetchingJwkSource prefetchingJwkSource(OAuth2ResourceServerProperties resourceServerProperties,
+											  AuthResourceProperties properties,
+											  ObjectProvider<MeterRegistry> meterRegistry) {
+		AuthResourceProperties.JwtCache jwtCache = properties.getJwtCache();
+		return new PrefetchingJwkSource(new URL(resourceServerProperties.getJwt().getJwkSetUri()),
+			jwtCache.getJwksRefreshInterval(), jwtCache.getJwksMinRefreshInterval(), meterRegistry.getIfAvailable());
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = JWT_CACHE_ENABLED_PROPERTY, matchIfMissing = true)
+	CachingJwtDecoder cachingJwtDecoder(OAuth2ResourceServerProperties resourceServerProperties,
+										AuthResourceProperties properties, PrefetchingJwkSource jwkSource,
+										ObjectProvider<MeterRegistry> meterRegistry) {
+		DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+		// 与Spring Boot默认解析器一致，仅接受配置的签名算法（默认：RS256）
+		jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(
+			JWSAlgorithm.parse(resourceServerProperties.getJwt().getJwsAlgorithm()), jwkSource));
+		// 声明校验交由Spring Security的OAuth2TokenValidator处理
+		jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+		});
+		NimbusJwtDecoder decoder = new NimbusJwtDecoder(jwtProcessor);
+		String issuerUri = resourceServerProperties.getJwt().getIssuerUri();
+		decoder.setJwtValidator(null == issuerUri ? JwtValidators.createDefault() :
+			JwtValidators.createDefaultWithIssuer(issuerUri));
+		return new CachingJwtDecoder(decoder, properties.getJwtCache().getMaxSize(), meterRegistry.getIfAvailable());
+	}
+
+}
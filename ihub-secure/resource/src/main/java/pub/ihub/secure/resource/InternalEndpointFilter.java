@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.resource;
+
+import org.springframework.http.HttpMethod;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static pub.ihub.secure.core.Constant.RESOURCE_INTERNAL_URI;
+
+/**
+ * 内部端点分发过滤器
+ * <p>
+ * 先以前缀判断是否为内部端点，普通请求只做一次字符串比较即放行；内部端点按路径查表输出
+ *
+ * @author henry
+ */
+final class InternalEndpointFilter implements Filter {
+
+	private final Map<String, CachedJsonPayload> endpoints = new HashMap<>(4);
+
+	/**
+	 * 注册内部端点
+	 *
+	 * @param uri     端点路径
+	 * @param payload 响应内容
+	 * @return 内部端点分发过滤器
+	 */
+	InternalEndpointFilter endpoint(String uri, CachedJsonPayload payload) {
+		endpoints.put(uri, payload);
+		return this;
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+		throws IOException, ServletException {
+		HttpServletRequest httpRequest = (HttpServletRequest) request;
+		String servletPath = httpRequest.getServletPath();
+		if (servletPath.startsWith(RESOURCE_INTERNAL_URI) && HttpMethod.GET.matches(httpRequest.getMethod())) {
+			String pathInfo = httpRequest.getPathInfo();
+			CachedJsonPayload payload = endpoints.get(null == pathInfo ? servletPath : servletPath + pathInfo);
+			if (null != payload) {
+				payload.write(httpRequest, (HttpServletResponse) response);
+				return;
+			}
+		}
+		chain.doFilter(request, response);
+	}
+
+}
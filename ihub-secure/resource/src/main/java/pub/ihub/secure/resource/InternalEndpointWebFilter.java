@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.resource;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static pub.ihub.secure.core.Constant.RESOURCE_INTERNAL_URI;
+
+/**
+ * 内部端点分发过滤器（WebFlux）
+ * <p>
+ * 与{@link InternalEndpointFilter}一致：先以前缀判断是否为内部端点，内部端点按路径查表输出缓存字节
+ *
+ * @author henry
+ */
+final class InternalEndpointWebFilter implements WebFilter {
+
+	private final Map<String, CachedJsonPayload> endpoints = new HashMap<>(4);
+
+	/**
+	 * 注册内部端点
+	 *
+	 * @param uri     端点路径
+	 * @param payload 响应内容
+	 * @return 内部端点分发过滤器
+	 */
+	InternalEndpointWebFilter endpoint(String uri, CachedJsonPayload payload) {
+		endpoints.put(uri, payload);
+		return this;
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		ServerHttpRequest request = exchange.getRequest();
+		String path = request.getPath().pathWithinApplication().value();
+		if (path.startsWith(RESOURCE_INTERNAL_URI) && HttpMethod.GET == request.getMethod()) {
+			CachedJsonPayload payload = endpoints.get(path);
+			if (null != payload) {
+				return write(payload.payload(), request.getHeaders(), exchange.getResponse());
+			}
+		}
+		return chain.filter(exchange);
+	}
+
+	private static Mono<Void> write(CachedJsonPayload.Payload payload, HttpHeaders requestHeaders,
+									ServerHttpResponse response) {
+		HttpHeaders headers = response.getHeaders();
+		boolean gzip = CachedJsonPayload.acceptsGzip(requestHeaders.getFirst(HttpHeaders.ACCEPT_ENCODING));
+		headers.setETag(payload.etag(gzip));
+		headers.setVary(Collections.singletonList(HttpHeaders.ACCEPT_ENCODING));
+		if (payload.matches(requestHeaders.getFirst(HttpHeaders.IF_NONE_MATCH), gzip)) {
+			response.setStatusCode(HttpStatus.NOT_MODIFIED);
+			return response.setComplete();
+		}
+		if (gzip) {
+			headers.set(HttpHeaders.CONTENT_ENCODING, CachedJsonPayload.GZIP);
+		}
+		byte[] body = payload.body(gzip);
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.setContentLength(body.length);
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+	}
+
+}
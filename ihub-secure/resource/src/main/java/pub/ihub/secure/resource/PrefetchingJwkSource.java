@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.resource;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 后台预取的JWKS
+ * <p>
+ * 启动时及按刷新间隔在后台线程拉取JWKS，请求线程只读取本地JWKSet；
+ * 遇到未知kid时异步触发刷新（限制最小间隔），不阻塞请求，也避免伪造kid导致频繁拉取
+ *
+ * @author henry
+ */
+public class PrefetchingJwkSource implements JWKSource<SecurityContext>, AutoCloseable {
+
+	private static final Log LOG = LogFactory.getLog(PrefetchingJwkSource.class);
+
+	/**
+	 * JWKS刷新次数（result=success|failure）
+	 */
+	public static final String REFRESH_METRIC = "ihub.secure.resource.jwks.refresh";
+
+	private static final int TIMEOUT = 5000;
+
+	private static final int SIZE_LIMIT = 51200;
+
+	private final URL jwkSetUrl;
+
+	private final long minRefreshInterval;
+
+	private final MeterRegistry meterRegistry;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final AtomicLong lastRefresh = new AtomicLong();
+
+	private volatile JWKSet jwkSet = new JWKSet();
+
+	public PrefetchingJwkSource(URL jwkSetUrl, Duration refreshInterval, Duration minRefreshInterval,
+								MeterRegistry meterRegistry) {
+		this.jwkSetUrl = jwkSetUrl;
+		this.minRefreshInterval = minRefreshInterval.toNanos();
+		this.meterRegistry = meterRegistry;
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "ihub-jwks-prefetch");
+			thread.setDaemon(true);
+			return thread;
+		});
+		refresh();
+		long interval = refreshInterval.toMillis();
+		scheduler.scheduleWithFixedDelay(this::refresh, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+		List<JWK> keys = jwkSelector.select(jwkSet);
+		if (keys.isEmpty()) {
+			long last = lastRefresh.get();
+			long now = System.nanoTime();
+			if (now - last > minRefreshInterval && lastRefresh.compareAndSet(last, now)) {
+				scheduler.execute(this::refresh);
+			}
+		}
+		return keys;
+	}
+
+	@Override
+	public void close() {
+		scheduler.shutdownNow();
+	}
+
+	private void refresh() {
+		lastRefresh.set(System.nanoTime());
+		try {
+			jwkSet = JWKSet.load(jwkSetUrl, TIMEOUT, TIMEOUT, SIZE_LIMIT);
+			count("success");
+		} catch (Exception e) {
+			count("failure");
+			LOG.warn("JWKS刷新失败，沿用本地JWKS：" + jwkSetUrl + "，" + e);
+		}
+	}
+
+	private void count(String result) {
+		if (null != meterRegistry) {
+			meterRegistry.counter(REFRESH_METRIC, "result", result).increment();
+		}
+	}
+
+}
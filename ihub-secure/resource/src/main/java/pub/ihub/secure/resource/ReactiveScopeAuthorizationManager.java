@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.resource;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import reactor.core.publisher.Mono;
+
+/**
+ * 作用域资源鉴权（WebFlux）
+ * <p>
+ * 要求已认证，并按{@link ScopeResourceIndex}判断作用域；索引为内存结构，鉴权过程无阻塞调用
+ *
+ * @author henry
+ */
+final class ReactiveScopeAuthorizationManager implements ReactiveAuthorizationManager<AuthorizationContext> {
+
+	private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+
+	private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+	private final ScopeResourceIndex scopeResourceIndex;
+
+	ReactiveScopeAuthorizationManager(ScopeResourceIndex scopeResourceIndex) {
+		this.scopeResourceIndex = scopeResourceIndex;
+	}
+
+	@Override
+	public Mono<AuthorizationDecision> check(Mono<Authentication> authentication, AuthorizationContext context) {
+		String path = context.getExchange().getRequest().getPath().pathWithinApplication().value();
+		return authentication
+			.filter(Authentication::isAuthenticated)
+			.map(auth -> scopeResourceIndex.isGranted(path, auth.getAuthorities()) ? GRANTED : DENIED)
+			.defaultIfEmpty(DENIED);
+	}
+
+}
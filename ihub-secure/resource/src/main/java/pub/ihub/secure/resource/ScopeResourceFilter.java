@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.resource;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.intercept.FilterSecurityInterceptor;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+import static pub.ihub.secure.core.Constant.RESOURCE_INTERNAL_URI;
+
+/**
+ * 作用域资源鉴权过滤器
+ * <p>
+ * 放在{@link FilterSecurityInterceptor}之后，此时请求已通过认证；内部端点由单独规则鉴权，此处跳过
+ *
+ * @author henry
+ */
+final class ScopeResourceFilter implements Filter {
+
+	private static final UrlPathHelper URL_PATH_HELPER = UrlPathHelper.defaultInstance;
+
+	private final ScopeResourceIndex scopeResourceIndex;
+
+	ScopeResourceFilter(ScopeResourceIndex scopeResourceIndex) {
+		this.scopeResourceIndex = scopeResourceIndex;
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+		throws IOException, ServletException {
+		String path = URL_PATH_HELPER.getPathWithinApplication((HttpServletRequest) request);
+		if (!isInternal(path) && !scopeResourceIndex.isGranted(path,
+			SecurityContextHolder.getContext().getAuthentication().getAuthorities())) {
+			throw new AccessDeniedException("作用域不足：" + path);
+		}
+		chain.doFilter(request, response);
+	}
+
+	private static boolean isInternal(String path) {
+		return path.startsWith(RESOURCE_INTERNAL_URI) && (path.length() == RESOURCE_INTERNAL_URI.length() ||
+			'/' == path.charAt(RESOURCE_INTERNAL_URI.length()));
+	}
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.secure.resource;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 作用域资源索引
+ * <p>
+ * 启动时将作用域资源映射按路径段编译为前缀树，匹配耗时只与路径深度相关，与映射数量无关；
+ * 与逐条匹配语义一致：多个作用域匹配同一路径时，以配置顺序中第一个作用域为准
+ *
+ * @author henry
+ */
+final class ScopeResourceIndex {
+
+	/**
+	 * 未匹配任何作用域
+	 */
+	static final int NO_MATCH = Integer.MAX_VALUE;
+
+	private static final String SEPARATOR = "/";
+
+	private static final AntPathMatcher SEGMENT_MATCHER = new AntPathMatcher();
+
+	private final Node root = new Node();
+
+	private final String[] authorities;
+
+	private ScopeResourceIndex(Map<String, String[]> scopeResources) {
+		authorities = new String[scopeResources.size()];
+		int scope = 0;
+		for (Map.Entry<String, String[]> entry : scopeResources.entrySet()) {
+			authorities[scope] = "SCOPE_" + entry.getKey();
+			for (String pattern : entry.getValue()) {
+				add(tokenize(pattern), scope);
+			}
+			scope++;
+		}
+	}
+
+	/**
+	 * 编译作用域资源映射
+	 *
+	 * @param scopeResources 作用域资源映射（有序）
+	 * @return 作用域资源索引
+	 */
+	static ScopeResourceIndex compile(Map<String, String[]> scopeResources) {
+		return new ScopeResourceIndex(scopeResources);
+	}
+
+	/**
+	 * 是否包含作用域映射
+	 *
+	 * @return 是否为空
+	 */
+	boolean isEmpty() {
+		return 0 == authorities.length;
+	}
+
+	/**
+	 * 匹配路径
+	 *
+	 * @param path 应用内路径
+	 * @return 第一个匹配的作用域序号，未匹配返回{@link #NO_MATCH}
+	 */
+	int match(String path) {
+		return match(root, tokenize(path), 0);
+	}
+
+	/**
+	 * 判断是否有权访问路径，未配置作用域的路径不做限制
+	 *
+	 * @param path        应用内路径
+	 * @param authorities 用户权限
+	 * @return 是否有权访问
+	 */
+	boolean isGranted(String path, Collection<? extends GrantedAuthority> authorities) {
+		int scope = match(path);
+		if (NO_MATCH == scope) {
+			return true;
+		}
+		String required = this.authorities[scope];
+		for (GrantedAuthority authority : authorities) {
+			if (required.equals(authority.getAuthority())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	//<editor-fold desc="前缀树">
+
+	private void add(String[] segments, int scope) {
+		Node node = root;
+		for (String segment : segments) {
+			node = node.child(segment);
+		}
+		node.scope = Math.min(node.scope, scope);
+	}
+
+	private static int match(Node node, String[] segments, int index) {
+		int scope = NO_MATCH;
+		if (null != node.multi) {
+			// "**"匹配零个或多个路径段
+			for (int i = index; i <= segments.length; i++) {
+				scope = Math.min(scope, match(node.multi, segments, i));
+			}
+		}
+		if (index == segments.length) {
+			return Math.min(scope, node.scope);
+		}
+		String segment = segments[index];
+		Node literal = node.literals.get(segment);
+		if (null != literal) {
+			scope = Math.min(scope, match(literal, segments, index + 1));
+		}
+		if (null != node.single) {
+			scope = Math.min(scope, match(node.single, segments, index + 1));
+		}
+		for (int i = 0, size = node.patterns.size(); i < size; i++) {
+			Node pattern = node.patterns.get(i);
+			if (SEGMENT_MATCHER.match(pattern.pattern, segment)) {
+				scope = Math.min(scope, match(pattern, segments, index + 1));
+			}
+		}
+		return scope;
+	}
+
+	private static String[] tokenize(String path) {
+		// 忽略空路径段，与MVC匹配一致，兼容末尾斜杠
+		return StringUtils.tokenizeToStringArray(path, SEPARATOR, false, true);
+	}
+
+	private static final class Node {
+
+		private final Map<String, Node> literals = new HashMap<>(4);
+
+		private final List<Node> patterns = new ArrayList<>(0);
+
+		private final String pattern;
+
+		private Node single;
+
+		private Node multi;
+
+		private int scope = NO_MATCH;
+
+		private Node() {
+			this(null);
+		}
+
+		private Node(String pattern) {
+			this.pattern = pattern;
+		}
+
+		private Node child(String segment) {
+			if ("**".equals(segment)) {
+				return null == multi ? multi = new Node() : multi;
+			}
+			if ("*".equals(segment) || isVariable(segment)) {
+				return null == single ? single = new Node() : single;
+			}
+			if (SEGMENT_MATCHER.isPattern(segment)) {
+				for (Node node : patterns) {
+					if (segment.equals(node.pattern)) {
+						return node;
+					}
+				}
+				Node node = new Node(segment);
+				patterns.add(node);
+				return node;
+			}
+			return literals.computeIfAbsent(segment, key -> new Node());
+		}
+
+		private static boolean isVariable(String segment) {
+			return segment.startsWith("{") && segment.endsWith("}") && segment.indexOf(':') < 0 &&
+				segment.indexOf('{', 1) < 0;
+		}
+
+	}
+
+	//</editor-fold>
+
+}
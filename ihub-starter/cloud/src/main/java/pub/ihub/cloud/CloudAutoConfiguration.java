@@ -15,8 +15,15 @@
  */
 package pub.ihub.cloud;
 
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import pub.ihub.core.IHubStartup;
 
 /**
  * 服务自动配置
@@ -27,4 +34,24 @@ import org.springframework.context.annotation.Configuration;
 @EnableConfigurationProperties(IHubApplicationProperties.class)
 public class CloudAutoConfiguration {
 
+	/**
+	 * 组件构建信息端点配置
+	 */
+	@Configuration
+	@ConditionalOnClass(InfoContributor.class)
+	static class IHubLibsInfoConfiguration {
+
+		@Bean
+		@ConditionalOnMissingBean
+		IHubLibsInfoContributor iHubLibsInfoContributor(ApplicationStartup applicationStartup) {
+			StartupStep step = IHubStartup.start(applicationStartup, "cloud.info-contributor");
+			try {
+				return new IHubLibsInfoContributor();
+			} finally {
+				step.end();
+			}
+		}
+
+	}
+
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.cloud;
+
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import pub.ihub.core.IHubLibsBuildInfo;
+
+import java.util.Map;
+
+/**
+ * IHub组件构建信息端点
+ *
+ * @author liheng
+ */
+public class IHubLibsInfoContributor implements InfoContributor {
+
+	private final Map<String, Object> details = IHubLibsBuildInfo.get().toMap();
+
+	@Override
+	public void contribute(Info.Builder builder) {
+		builder.withDetail("ihub-libs", details);
+	}
+
+}
@@ -15,21 +15,29 @@
  */
 package pub.ihub.core.swagger;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import pub.ihub.core.IHubStartup;
 import pub.ihub.core.swagger.SwaggerProperties.Header;
 import springfox.bean.validators.configuration.BeanValidatorPluginsConfiguration;
 import springfox.documentation.builders.ApiInfoBuilder;
 import springfox.documentation.service.ApiInfo;
 import springfox.documentation.spring.web.plugins.ApiSelectorBuilder;
 import springfox.documentation.spring.web.plugins.Docket;
+import springfox.documentation.spring.web.plugins.DocumentationPluginsBootstrapper;
 import springfox.documentation.swagger2.annotations.EnableSwagger2;
 
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
+import static pub.ihub.core.IHubStartup.LAZY_PROPERTY;
 import static springfox.documentation.builders.PathSelectors.ant;
 import static springfox.documentation.builders.RequestHandlerSelectors.basePackage;
 import static springfox.documentation.spi.DocumentationType.SWAGGER_2;
@@ -47,32 +55,56 @@ import static springfox.documentation.spi.DocumentationType.SWAGGER_2;
 public class SwaggerAutoConfiguration {
 
 	@Bean
-	public Docket api(SwaggerProperties properties) {
-		ApiSelectorBuilder builder = new Docket(SWAGGER_2)
-			.host(properties.getHost())
-			.useDefaultResponseMessages(false)
-			.globalRequestParameters(properties.getHeaders().stream().map(Header::toRequestParameter).collect(toList()))
-			.apiInfo(apiInfo(properties))
-			.groupName(properties.getGroupName())
-			.select();
+	public Docket api(SwaggerProperties properties, ApplicationStartup applicationStartup) {
+		StartupStep step = IHubStartup.start(applicationStartup, "swagger.docket")
+			.tag("group", properties.getGroupName());
+		try {
+			ApiSelectorBuilder builder = new Docket(SWAGGER_2)
+				.host(properties.getHost())
+				.useDefaultResponseMessages(false)
+				.globalRequestParameters(properties.getHeaders().stream().map(Header::toRequestParameter).collect(toList()))
+				.apiInfo(apiInfo(properties))
+				.groupName(properties.getGroupName())
+				.select();
 
-		properties.getBasePackages().forEach(basePackage -> builder.apis(basePackage(basePackage)));
-		properties.getBasePath().forEach(path -> builder.paths(ant(path)));
-		properties.getExcludePath().forEach(p -> builder.paths(ant(p).negate()));
+			properties.getBasePackages().forEach(basePackage -> builder.apis(basePackage(basePackage)));
+			properties.getBasePath().forEach(path -> builder.paths(ant(path)));
+			properties.getExcludePath().forEach(p -> builder.paths(ant(p).negate()));
 
-		Docket docket = builder.build();
+			Docket docket = builder.build();
 
-		if (properties.getAuthorization().getEnabled()) {
-			docket.securitySchemes(singletonList(properties.getAuthorization().getApiKey()));
-			docket.securityContexts(singletonList(properties.getAuthorization().getSecurityContext()));
+			if (properties.getAuthorization().getEnabled()) {
+				docket.securitySchemes(singletonList(properties.getAuthorization().getApiKey()));
+				docket.securityContexts(singletonList(properties.getAuthorization().getSecurityContext()));
+			}
+
+			if (properties.getOauth2().getEnabled()) {
+				docket.securitySchemes(singletonList(properties.getOauth2().getOauth()));
+				docket.securityContexts(singletonList(properties.getOauth2().getSecurityContext()));
+			}
+
+			return docket;
+		} finally {
+			step.end();
 		}
+	}
+
+	/**
+	 * 延迟初始化配置
+	 */
+	@Configuration
+	@ConditionalOnProperty(LAZY_PROPERTY)
+	static class LazyStartupConfiguration {
 
-		if (properties.getOauth2().getEnabled()) {
-			docket.securitySchemes(singletonList(properties.getOauth2().getOauth()));
-			docket.securityContexts(singletonList(properties.getOauth2().getSecurityContext()));
+		@Bean
+		FilterRegistrationBean<SwaggerLazyStartupFilter> swaggerLazyStartupFilter(
+			ObjectProvider<DocumentationPluginsBootstrapper> bootstrapper) {
+			FilterRegistrationBean<SwaggerLazyStartupFilter> registration =
+				new FilterRegistrationBean<>(new SwaggerLazyStartupFilter(bootstrapper));
+			registration.addUrlPatterns(SwaggerLazyStartupFilter.URL_PATTERNS);
+			return registration;
 		}
 
-		return docket;
 	}
 
 	private ApiInfo apiInfo(SwaggerProperties properties) {
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core.swagger;
+
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import static java.util.Collections.singletonMap;
+import static pub.ihub.core.IHubStartup.LAZY_PROPERTY;
+
+/**
+ * Swagger延迟初始化
+ * <p>
+ * 延迟初始化模式下关闭springfox启动时的文档扫描，改由{@link SwaggerLazyStartupFilter}在首次访问文档时触发
+ *
+ * @author henry
+ */
+public class SwaggerLazyInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+	/**
+	 * springfox自动启动属性
+	 */
+	static final String AUTO_STARTUP_PROPERTY = "springfox.documentation.auto-startup";
+
+	@Override
+	public void initialize(ConfigurableApplicationContext context) {
+		if (context.getEnvironment().getProperty(LAZY_PROPERTY, Boolean.class, false)) {
+			// 放在最后，显式配置优先
+			context.getEnvironment().getPropertySources().addLast(new MapPropertySource("ihub-swagger-lazy",
+				singletonMap(AUTO_STARTUP_PROPERTY, false)));
+		}
+	}
+
+}
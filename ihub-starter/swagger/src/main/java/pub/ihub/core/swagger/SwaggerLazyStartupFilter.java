@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021 Henry 李恒 (henry.box@outlook.com).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pub.ihub.core.swagger;
+
+import org.springframework.beans.factory.ObjectProvider;
+import springfox.documentation.spring.web.plugins.DocumentationPluginsBootstrapper;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import java.io.IOException;
+
+/**
+ * 文档首次访问时启动springfox文档扫描
+ *
+ * @author henry
+ */
+public class SwaggerLazyStartupFilter implements Filter {
+
+	/**
+	 * 文档访问路径
+	 */
+	static final String[] URL_PATTERNS = {
+		"/v2/api-docs", "/v3/api-docs", "/v3/api-docs/*", "/swagger-resources", "/swagger-resources/*", "/doc.html"
+	};
+
+	private final ObjectProvider<DocumentationPluginsBootstrapper> bootstrapper;
+
+	private volatile boolean started;
+
+	public SwaggerLazyStartupFilter(ObjectProvider<DocumentationPluginsBootstrapper> bootstrapper) {
+		this.bootstrapper = bootstrapper;
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+		throws IOException, ServletException {
+		if (!started) {
+			start();
+		}
+		chain.doFilter(request, response);
+	}
+
+	private synchronized void start() {
+		if (!started) {
+			bootstrapper.ifAvailable(documentationBootstrapper -> {
+				if (!documentationBootstrapper.isRunning()) {
+					documentationBootstrapper.start();
+				}
+			});
+			started = true;
+		}
+	}
+
+}